@@ -0,0 +1,66 @@
+package Benchmark;
+
+import Analyzer.DependencyResolver;
+import Benchmark.SyntheticSource.InputSize;
+import SourceParser.Model.ClassInfo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로젝트 전체의 의존성 분석 (클래스 수는 입력 크기에 비례)과 클래스 하나를 바꾼 뒤의 증분 분석.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DependencyResolverBenchmark {
+    @Param({"SMALL", "MEDIUM", "HUGE"})
+    private InputSize size;
+
+    private List<ClassInfo> classes;
+    private DependencyResolver resolved;
+
+    @Setup
+    public void setUp() {
+        classes = SyntheticSource.projectClasses(size);
+        resolved = new DependencyResolver();
+        resolved.resolveDependencies(classes);
+    }
+
+    // 분석 결과는 ClassInfo에 덮어쓰므로 같은 입력을 반복해서 사용할 수 있음
+    @Benchmark
+    public List<ClassInfo> resolveDependencies() {
+        new DependencyResolver().resolveDependencies(classes);
+        return classes;
+    }
+
+    // 영향 분석 모드: 메서드 호출 그래프 없이 클래스 의존성만
+    @Benchmark
+    public List<ClassInfo> resolveWithoutMethodCallGraph() {
+        DependencyResolver resolver = new DependencyResolver();
+        resolver.setMethodCallGraphEnabled(false);
+        resolver.resolveDependencies(classes);
+        return classes;
+    }
+
+    // 파일 하나를 다시 파싱한 경우: 그 클래스와 같은 패키지 / import 하는 클래스만 다시 분석
+    @Benchmark
+    public int updateClass() {
+        return resolved.updateClass(classes.get(classes.size() / 2));
+    }
+}
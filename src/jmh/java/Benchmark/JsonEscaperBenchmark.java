@@ -0,0 +1,97 @@
+package Benchmark;
+
+import Benchmark.SyntheticSource.InputSize;
+import Serializer.JsonEscaper;
+import SourceParser.Model.ClassInfo;
+import SourceParser.Model.MethodCall;
+import SourceParser.Model.MethodInfo;
+import SourceParser.Model.Parameter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 번 훑는 JSON 이스케이프 vs 이전 방식 (String.replace 5번 연결).
+ * 입력은 직렬화할 때 이스케이프하는 모든 문자열 (이름, 타입, import, 의존성).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonEscaperBenchmark {
+    @Param({"SMALL", "MEDIUM", "HUGE"})
+    private InputSize size;
+
+    private String[] values;
+    private StringWriter out;
+
+    @Setup
+    public void setUp() {
+        List<String> strings = new ArrayList<>();
+        for (ClassInfo classInfo : SyntheticSource.projectClasses(size)) {
+            strings.add(classInfo.getPackageName());
+            strings.add(classInfo.getClassName());
+            strings.addAll(classInfo.getImports());
+            strings.addAll(classInfo.getDependencies());
+            for (MethodInfo method : classInfo.getMethods()) {
+                strings.add(method.getMethodName());
+                strings.add(method.getReturnType());
+                for (Parameter parameter : method.getParameters()) {
+                    strings.add(parameter.getType());
+                    strings.add(parameter.getName());
+                }
+                for (MethodCall call : method.getMethodCalls()) {
+                    strings.add(call.getTargetClass());
+                    strings.add(call.getTargetMethod());
+                }
+            }
+        }
+        values = strings.toArray(new String[0]);
+        out = new StringWriter(1 << 20);
+    }
+
+    @Benchmark
+    public int singlePass() throws IOException {
+        out.getBuffer().setLength(0);
+        for (String value : values) {
+            JsonEscaper.escape(value, out);
+        }
+        return out.getBuffer().length();
+    }
+
+    @Benchmark
+    public int replaceChain() {
+        out.getBuffer().setLength(0);
+        for (String value : values) {
+            out.write(escapeByReplace(value));
+        }
+        return out.getBuffer().length();
+    }
+
+    // 이전 JsonSerializer.escape 그대로
+    private static String escapeByReplace(String str) {
+        if (str == null) return "";
+        return str.replace("\\", "\\\\")
+                .replace("\"", "\\\"")
+                .replace("\n", "\\n")
+                .replace("\r", "\\r")
+                .replace("\t", "\\t");
+    }
+}
@@ -0,0 +1,113 @@
+package Benchmark;
+
+import Analyzer.DependencyResolver;
+import Analyzer.Graph.MethodCallGraph;
+import Benchmark.SyntheticSource.InputSize;
+import Serializer.JsonSerializer;
+import SourceParser.Model.ClassInfo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로젝트 전체 분석 결과의 JSON 직렬화.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializerBenchmark {
+    @Param({"SMALL", "MEDIUM", "HUGE"})
+    private InputSize size;
+
+    private List<ClassInfo> classes;
+    private MethodCallGraph callGraph;
+    private Path outputFile;
+    private PrintStream originalOut;
+
+    @Setup
+    public void setUp() throws IOException {
+        classes = SyntheticSource.projectClasses(size);
+        DependencyResolver resolver = new DependencyResolver();
+        resolver.resolveDependencies(classes);
+        callGraph = resolver.getMethodCallGraph();
+        outputFile = Files.createTempFile("serializer-benchmark", ".json");
+
+        // writeToFile의 "JSON saved to" 출력 제외
+        originalOut = System.out;
+        System.setOut(new PrintStream(PrintStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        System.setOut(originalOut);
+        Files.deleteIfExists(outputFile);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return new JsonSerializer().serialize(classes);
+    }
+
+    // 문서 문자열을 만들지 않는 스트리밍 출력 (파일 I/O 제외)
+    @Benchmark
+    public void serializeToWriter() throws IOException {
+        new JsonSerializer().serialize(classes, Writer.nullWriter());
+    }
+
+    @Benchmark
+    public void writeFileSequential() throws IOException {
+        JsonSerializer serializer = new JsonSerializer();
+        serializer.setThreadCount(1);
+        serializer.writeToFile(classes, outputFile.toString());
+    }
+
+    // 청크 병렬 생성 + gathering write (스레드 수 = CPU 코어 수)
+    @Benchmark
+    public void writeFileParallel() throws IOException {
+        new JsonSerializer().writeToFile(classes, outputFile.toString());
+    }
+
+    // 호출 그래프 섹션 포함 (메서드 CALL_GRAPH_CHUNK_SIZE개씩 청크로 출력)
+    @Benchmark
+    public void writeFileWithCallGraph() throws IOException {
+        JsonSerializer serializer = new JsonSerializer();
+        serializer.setCallGraph(callGraph);
+        serializer.writeToFile(classes, outputFile.toString());
+    }
+
+    @Benchmark
+    public void writeFileCompact() throws IOException {
+        JsonSerializer serializer = new JsonSerializer();
+        serializer.setCompact(true);
+        serializer.writeToFile(classes, outputFile.toString());
+    }
+
+    @Benchmark
+    public void writeFileCompactGzip() throws IOException {
+        JsonSerializer serializer = new JsonSerializer();
+        serializer.setCompact(true);
+        serializer.setGzip(true);
+        serializer.writeToFile(classes, outputFile.toString());
+    }
+}
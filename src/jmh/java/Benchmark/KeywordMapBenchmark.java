@@ -0,0 +1,93 @@
+package Benchmark;
+
+import SourceParser.Tokenizer.KeywordMap;
+import SourceParser.Tokenizer.TokenType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소스 구간 기반 키워드 판별 vs 이전 방식 (구간을 문자열로 잘라 HashMap 조회).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeywordMapBenchmark {
+    // 이전 KeywordMap의 HashMap 그대로
+    private static final Map<String, TokenType> HASH_MAP = new HashMap<>();
+
+    static {
+        for (String keyword : new String[]{
+                "public", "private", "protected", "static", "final", "abstract",
+                "class", "interface", "enum", "extends", "implements", "super",
+                "int", "long", "float", "double", "char", "boolean", "void", "String",
+                "if", "else", "for", "while", "do", "return",
+                "try", "catch", "finally", "throw", "throws", "package", "import"}) {
+            HASH_MAP.put(keyword, KeywordMap.getType(keyword));
+        }
+    }
+
+    private String source;
+    private int[] starts;
+    private int[] lengths;
+
+    @Setup
+    public void setUp() {
+        // 실제 코드처럼 식별자가 키워드보다 많은 단어 목록
+        String[] words = {
+                "public", "class", "OrderService", "private", "final", "orderRepository",
+                "return", "findById", "orderId", "if", "order", "null", "throw", "new",
+                "IllegalStateException", "String", "name", "getName", "for", "item",
+                "items", "total", "add", "price", "static", "void", "process", "int", "count"
+        };
+
+        StringBuilder builder = new StringBuilder();
+        List<int[]> ranges = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            String word = words[i % words.length];
+            ranges.add(new int[]{builder.length(), word.length()});
+            builder.append(word).append(' ');
+        }
+
+        source = builder.toString();
+        starts = new int[ranges.size()];
+        lengths = new int[ranges.size()];
+        for (int i = 0; i < ranges.size(); i++) {
+            starts[i] = ranges.get(i)[0];
+            lengths[i] = ranges.get(i)[1];
+        }
+    }
+
+    @Benchmark
+    public void switchOnRange(Blackhole blackhole) {
+        for (int i = 0; i < starts.length; i++) {
+            blackhole.consume(KeywordMap.getType(source, starts[i], lengths[i]));
+        }
+    }
+
+    @Benchmark
+    public void hashMapOnSubstring(Blackhole blackhole) {
+        for (int i = 0; i < starts.length; i++) {
+            String word = source.substring(starts[i], starts[i] + lengths[i]);
+            blackhole.consume(HASH_MAP.getOrDefault(word, TokenType.UNKNOWN));
+        }
+    }
+}
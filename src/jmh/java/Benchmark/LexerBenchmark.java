@@ -0,0 +1,75 @@
+package Benchmark;
+
+import Benchmark.SyntheticSource.InputSize;
+import SourceParser.Lexer.Lexer;
+import SourceParser.Tokenizer.TokenType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미 토큰화된 소스 위에서의 Lexer 이동 (토큰화 비용 제외).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LexerBenchmark {
+    @Param({"SMALL", "MEDIUM", "HUGE"})
+    private InputSize size;
+
+    private Lexer lexer;
+
+    @Setup
+    public void setUp() {
+        lexer = new Lexer(SyntheticSource.classSource(size));
+    }
+
+    // 모든 토큰을 차례로 지나가며 호출 패턴(identifier + '(')을 센다
+    @Benchmark
+    public int scanTokens() {
+        lexer.setPosition(0);
+        int calls = 0;
+        while (!lexer.isAtEnd()) {
+            if (lexer.getCurrentType() == TokenType.UNKNOWN && lexer.peekType(1) == TokenType.LPAREN) {
+                calls++;
+            }
+            lexer.moveForward();
+        }
+        return calls;
+    }
+
+    // 클래스 본문 안의 메서드 본문을 짝 괄호 위치로 건너뛰며 이동
+    @Benchmark
+    public int skipBodies() {
+        lexer.setPosition(0);
+        while (!lexer.isAtEnd() && !lexer.check(TokenType.LBRACE)) {
+            lexer.moveForward();
+        }
+        lexer.moveForward();
+
+        int bodies = 0;
+        while (!lexer.isAtEnd()) {
+            if (lexer.check(TokenType.LBRACE)) {
+                lexer.skipBalanced();
+                bodies++;
+            } else {
+                lexer.moveForward();
+            }
+        }
+        return bodies;
+    }
+}
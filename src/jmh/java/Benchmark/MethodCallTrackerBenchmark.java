@@ -0,0 +1,48 @@
+package Benchmark;
+
+import Benchmark.SyntheticSource.InputSize;
+import SourceParser.Lexer.Lexer;
+import SourceParser.Model.MethodCall;
+import SourceParser.MethodCallTracker.MethodCallTracker;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메서드 본문 하나의 호출 추적 (호출 수는 입력 크기에 비례).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodCallTrackerBenchmark {
+    @Param({"SMALL", "MEDIUM", "HUGE"})
+    private InputSize size;
+
+    private Lexer lexer;
+
+    @Setup
+    public void setUp() {
+        lexer = new Lexer(SyntheticSource.methodBody(size));
+    }
+
+    @Benchmark
+    public List<MethodCall> trackMethodCalls() {
+        lexer.setPosition(0);
+        return new MethodCallTracker(lexer).trackMethodCalls();
+    }
+}
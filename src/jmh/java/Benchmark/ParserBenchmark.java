@@ -0,0 +1,56 @@
+package Benchmark;
+
+import Benchmark.SyntheticSource.InputSize;
+import SourceParser.Lexer.Lexer;
+import SourceParser.Model.ClassInfo;
+import SourceParser.Parser.Parser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미 토큰화된 소스의 클래스 파싱 (메서드 호출 추적 포함 / 시그니처만).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+    @Param({"SMALL", "MEDIUM", "HUGE"})
+    private InputSize size;
+
+    private Lexer lexer;
+    private Lexer signaturesLexer;
+
+    @Setup
+    public void setUp() {
+        String source = SyntheticSource.classSource(size);
+        lexer = new Lexer(source);
+        signaturesLexer = new Lexer(source, true);
+    }
+
+    @Benchmark
+    public ClassInfo getClassInfo() {
+        lexer.setPosition(0);
+        return new Parser(lexer).getClassInfo();
+    }
+
+    @Benchmark
+    public ClassInfo getClassInfoSignaturesOnly() {
+        signaturesLexer.setPosition(0);
+        return new Parser(signaturesLexer, true).getClassInfo();
+    }
+}
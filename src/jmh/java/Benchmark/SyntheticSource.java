@@ -0,0 +1,123 @@
+package Benchmark;
+
+import SourceParser.Lexer.Lexer;
+import SourceParser.Model.ClassInfo;
+import SourceParser.Parser.Parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 입력으로 쓰는 합성 자바 소스.
+ * 크기는 InputSize로 고르고, 같은 크기면 항상 같은 소스를 만든다.
+ */
+public final class SyntheticSource {
+    private static final int PACKAGE_COUNT = 10;
+    private static final int METHODS_PER_PROJECT_CLASS = 10;
+    private static final int CALLS_PER_PROJECT_METHOD = 5;
+    private static final int COLLABORATORS = 7;
+
+    public enum InputSize {
+        // 클래스 하나의 메서드 수, 메서드당 호출 수, 프로젝트의 클래스 수
+        SMALL(5, 4, 20),
+        MEDIUM(100, 20, 500),
+        HUGE(2000, 30, 3000);
+
+        private final int methods;
+        private final int callsPerMethod;
+        private final int classes;
+
+        InputSize(int methods, int callsPerMethod, int classes) {
+            this.methods = methods;
+            this.callsPerMethod = callsPerMethod;
+            this.classes = classes;
+        }
+    }
+
+    private SyntheticSource() {
+    }
+
+    // 파일 하나 분량의 클래스 소스
+    public static String classSource(InputSize size) {
+        return classSource(0, size.methods, size.callsPerMethod);
+    }
+
+    // 메서드 본문 하나 ({ ... }), 호출 수는 메서드 수 * 메서드당 호출 수
+    public static String methodBody(InputSize size) {
+        StringBuilder builder = new StringBuilder();
+        appendBody(builder, 0, size.methods * size.callsPerMethod, "");
+        return builder.toString();
+    }
+
+    // 프로젝트 전체 소스 (클래스마다 파일 하나)
+    public static List<String> projectSources(InputSize size) {
+        List<String> sources = new ArrayList<>(size.classes);
+        for (int i = 0; i < size.classes; i++) {
+            sources.add(classSource(i, METHODS_PER_PROJECT_CLASS, CALLS_PER_PROJECT_METHOD));
+        }
+        return sources;
+    }
+
+    // 프로젝트 전체를 미리 파싱한 결과 (의존성 분석/직렬화 입력)
+    public static List<ClassInfo> projectClasses(InputSize size) {
+        List<ClassInfo> classes = new ArrayList<>(size.classes);
+        for (String source : projectSources(size)) {
+            classes.add(new Parser(new Lexer(source)).getClassInfo());
+        }
+        return classes;
+    }
+
+    private static String classSource(int index, int methods, int callsPerMethod) {
+        String packageName = packageOf(index);
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("package ").append(packageName).append(";\n\n");
+        builder.append("import java.util.List;\n");
+        builder.append("import java.util.Map;\n");
+        // 본문의 serviceN.process() 호출 대상 (Service0 ~ Service6)
+        for (int k = 0; k < COLLABORATORS; k++) {
+            if (k != index) {
+                builder.append("import ").append(packageOf(k)).append(".Service").append(k).append(";\n");
+            }
+        }
+        builder.append('\n');
+        builder.append("/**\n * Synthetic service ").append(index).append(" (calls in comments: ignored()).\n */\n");
+        builder.append("public class Service").append(index)
+                .append(" extends BaseService implements Runnable {\n");
+
+        for (int m = 0; m < methods; m++) {
+            builder.append("\n    public List<String> method").append(m)
+                    .append("(String name, int count, Map<String, List<Integer>> index) throws Exception ");
+            appendBody(builder, m, callsPerMethod, "    ");
+            builder.append('\n');
+        }
+
+        builder.append("}\n");
+        return builder.toString();
+    }
+
+    private static void appendBody(StringBuilder builder, int seed, int calls, String indent) {
+        builder.append("{\n");
+        builder.append(indent).append("    // 호출 ").append(calls).append("개\n");
+        builder.append(indent).append("    for (int i = 0; i < count; i++) {\n");
+
+        for (int c = 0; c < calls; c++) {
+            builder.append(indent).append("        ");
+            switch ((seed + c) % 5) {
+                case 0 -> builder.append("repository.findById(i);\n");
+                case 1 -> builder.append("helper(name, 0x1F, 3.5e2);\n");
+                case 2 -> builder.append("this.validate(\"value \\\"").append(c).append("\\\" {\");\n");
+                case 3 -> builder.append("service").append(c % COLLABORATORS).append(".process(index.get(name));\n");
+                default -> builder.append("logger.info('x', \"done\");\n");
+            }
+        }
+
+        builder.append(indent).append("    }\n");
+        builder.append(indent).append("    return null;\n");
+        builder.append(indent).append("}");
+    }
+
+    private static String packageOf(int classIndex) {
+        return "com.example.module" + (classIndex % PACKAGE_COUNT);
+    }
+}
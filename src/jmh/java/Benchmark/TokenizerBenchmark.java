@@ -0,0 +1,52 @@
+package Benchmark;
+
+import Benchmark.SyntheticSource.InputSize;
+import SourceParser.Tokenizer.Token;
+import SourceParser.Tokenizer.TokenBuffer;
+import SourceParser.Tokenizer.Tokenizer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클래스 소스 하나의 토큰화 (Token 리스트 / 토큰 버퍼).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenizerBenchmark {
+    @Param({"SMALL", "MEDIUM", "HUGE"})
+    private InputSize size;
+
+    private String source;
+
+    @Setup
+    public void setUp() {
+        source = SyntheticSource.classSource(size);
+    }
+
+    @Benchmark
+    public List<Token> tokenize() {
+        return new Tokenizer(source).tokenize();
+    }
+
+    @Benchmark
+    public TokenBuffer tokenizeToBuffer() {
+        return new Tokenizer(source).tokenizeToBuffer();
+    }
+}
@@ -0,0 +1,210 @@
+package Analyzer;
+
+import Analyzer.Model.FileNode;
+import SourceParser.Model.ClassInfo;
+import SourceParser.Parser.Parser;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 파일 경로 + 크기/수정 시각 + 내용 해시 → 파싱된 ClassInfo 캐시.
+ * 파일 형식 버전과 파서 버전(Parser.VERSION)이 모두 같을 때만 저장된 결과를 사용한다.
+ * 프로젝트 루트의 .sourceparser/ 아래에 저장되어 다음 실행에서 변경되지 않은 파일의 파싱을 건너뛴다.
+ */
+public class AnalysisCache {
+    public static final String CACHE_DIRECTORY = ".sourceparser";
+    private static final String CACHE_FILE = "parse-cache.bin";
+    private static final String SIGNATURES_CACHE_FILE = "parse-cache-signatures.bin";
+    private static final int FORMAT_VERSION = 3;  // 2: MethodCall 인자 수, 3: 헤더에 파서 버전
+
+    private final Path cacheFile;
+    private final Map<String, Entry> entries;
+    private final Set<String> visitedPaths;
+    private final Map<String, String> pendingHashes;
+    private final AtomicInteger hits;
+    private final AtomicInteger misses;
+
+    private static class Entry implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final long size;
+        private final long lastModified;
+        private final String contentHash;
+        private final ClassInfo classInfo;
+
+        private Entry(long size, long lastModified, String contentHash, ClassInfo classInfo) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.contentHash = contentHash;
+            this.classInfo = classInfo;
+        }
+    }
+
+    private AnalysisCache(Path cacheFile, Map<String, Entry> entries) {
+        this.cacheFile = cacheFile;
+        this.entries = new ConcurrentHashMap<>(entries);
+        this.visitedPaths = ConcurrentHashMap.newKeySet();
+        this.pendingHashes = new ConcurrentHashMap<>();
+        this.hits = new AtomicInteger();
+        this.misses = new AtomicInteger();
+    }
+
+    // 캐시 파일이 없거나 형식이 맞지 않으면 빈 캐시로 시작
+    public static AnalysisCache load(String projectRoot) {
+        return load(projectRoot, false);
+    }
+
+    // 시그니처 전용 모드의 결과(호출 정보 없음)는 별도 파일에 저장
+    public static AnalysisCache load(String projectRoot, boolean signaturesOnly) {
+        String fileName = signaturesOnly ? SIGNATURES_CACHE_FILE : CACHE_FILE;
+        Path cacheFile = Paths.get(projectRoot, CACHE_DIRECTORY, fileName);
+        Map<String, Entry> entries = new HashMap<>();
+
+        if (Files.isRegularFile(cacheFile)) {
+            try (ObjectInputStream in = new ObjectInputStream(
+                    new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+                if (in.readInt() == FORMAT_VERSION && in.readInt() == Parser.VERSION) {
+                    int count = in.readInt();
+                    for (int i = 0; i < count; i++) {
+                        String path = in.readUTF();
+                        entries.put(path, (Entry) in.readObject());
+                    }
+                }
+            } catch (IOException | ClassNotFoundException | ClassCastException e) {
+                entries.clear();
+            }
+        }
+
+        return new AnalysisCache(cacheFile, entries);
+    }
+
+    // 크기와 수정 시각이 같으면 파일을 읽지 않고 캐시된 결과 사용
+    public ClassInfo lookup(FileNode file) {
+        visitedPaths.add(file.getPath());
+
+        Entry entry = entries.get(file.getPath());
+        if (entry == null) {
+            return null;
+        }
+
+        try {
+            Path path = Paths.get(file.getPath());
+            if (entry.size == Files.size(path) && entry.lastModified == Files.getLastModifiedTime(path).toMillis()) {
+                hits.incrementAndGet();
+                return entry.classInfo;
+            }
+        } catch (IOException e) {
+            return null;
+        }
+
+        return null;
+    }
+
+    // 수정 시각만 바뀐 경우 (checkout, touch 등) 내용 해시로 한 번 더 확인
+    public ClassInfo lookup(FileNode file, String content) {
+        visitedPaths.add(file.getPath());
+
+        String contentHash = hash(content);
+        Entry entry = entries.get(file.getPath());
+        if (entry != null && entry.contentHash.equals(contentHash)) {
+            hits.incrementAndGet();
+            entries.put(file.getPath(), createEntry(file, contentHash, entry.classInfo));
+            return entry.classInfo;
+        }
+
+        // store()에서 해시를 다시 계산하지 않도록 보관
+        pendingHashes.put(file.getPath(), contentHash);
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void store(FileNode file, String content, ClassInfo classInfo) {
+        String contentHash = pendingHashes.remove(file.getPath());
+        if (contentHash == null) {
+            contentHash = hash(content);
+        }
+        entries.put(file.getPath(), createEntry(file, contentHash, classInfo));
+    }
+
+    // 이번 실행에서 보지 못한 (삭제된) 파일은 제외하고 저장
+    public void save() throws IOException {
+        pendingHashes.clear();
+        Files.createDirectories(cacheFile.getParent());
+        Path tempFile = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp");
+
+        Map<String, Entry> snapshot = new HashMap<>(entries);
+        snapshot.keySet().retainAll(visitedPaths);
+
+        try (ObjectOutputStream out = new ObjectOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(Parser.VERSION);
+            out.writeInt(snapshot.size());
+            for (Map.Entry<String, Entry> entry : snapshot.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeObject(entry.getValue());
+            }
+        }
+
+        try {
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public int getHitCount() {
+        return hits.get();
+    }
+
+    public int getMissCount() {
+        return misses.get();
+    }
+
+    private Entry createEntry(FileNode file, String contentHash, ClassInfo classInfo) {
+        long size = -1;
+        long lastModified = -1;
+        try {
+            Path path = Paths.get(file.getPath());
+            size = Files.size(path);
+            lastModified = Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException ignored) {
+            // 메타데이터를 못 읽으면 다음 실행에서 해시 비교로 확인
+        }
+        return new Entry(size, lastModified, contentHash, classInfo);
+    }
+
+    private static String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest(content.getBytes(StandardCharsets.UTF_8));
+
+            StringBuilder hex = new StringBuilder(bytes.length * 2);
+            for (byte b : bytes) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+                hex.append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package Analyzer;
+
+import Analyzer.Model.FileNode;
+import SourceParser.Model.ClassInfo;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 디렉토리 순회 → 파일 읽기 → 토큰화/파싱 → 수집 단계를 큐로 연결한 파이프라인.
+ * 순회 중에도 앞서 발견된 파일의 파싱이 진행되고, 읽어 둔 소스의 총 바이트 수는
+ * maxInFlightBytes를 넘지 않는다.
+ */
+public class AnalysisPipeline {
+    public static final int DEFAULT_MAX_IN_FLIGHT_BYTES = 64 * 1024 * 1024;
+    private static final int FILE_QUEUE_CAPACITY = 1024;
+
+    private final FileAnalyzer fileAnalyzer;
+    private final int parserThreads;
+    private final int maxInFlightBytes;
+
+    public interface FileParser {
+        ClassInfo parse(FileNode file, String content) throws Exception;
+
+        // 파일을 읽지 않고 결과를 얻을 수 있으면 반환 (예: 캐시 적중), 없으면 null
+        default ClassInfo parseWithoutReading(FileNode file) {
+            return null;
+        }
+    }
+
+    public interface ProgressListener {
+        void onProgress(int completed, int discovered);
+    }
+
+    public static class Outcome {
+        private final int index;
+        private final FileNode file;
+        private final ClassInfo classInfo;
+        private final Exception error;
+
+        private Outcome(int index, FileNode file, ClassInfo classInfo, Exception error) {
+            this.index = index;
+            this.file = file;
+            this.classInfo = classInfo;
+            this.error = error;
+        }
+
+        public FileNode getFile() {
+            return file;
+        }
+
+        public ClassInfo getClassInfo() {
+            return classInfo;
+        }
+
+        public Exception getError() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+
+    // 단계 사이를 오가는 작업 단위 (file == null 이면 종료 신호)
+    private static class WorkItem {
+        private static final WorkItem END = new WorkItem(-1, null, null, 0);
+
+        private final int index;
+        private final FileNode file;
+        private final String content;
+        private final int reservedBytes;
+
+        private WorkItem(int index, FileNode file, String content, int reservedBytes) {
+            this.index = index;
+            this.file = file;
+            this.content = content;
+            this.reservedBytes = reservedBytes;
+        }
+    }
+
+    public AnalysisPipeline(FileAnalyzer fileAnalyzer, int parserThreads) {
+        this(fileAnalyzer, parserThreads, DEFAULT_MAX_IN_FLIGHT_BYTES);
+    }
+
+    public AnalysisPipeline(FileAnalyzer fileAnalyzer, int parserThreads, int maxInFlightBytes) {
+        if (parserThreads < 1) {
+            throw new IllegalArgumentException("Parser thread count must be at least 1: " + parserThreads);
+        }
+        if (maxInFlightBytes < 1) {
+            throw new IllegalArgumentException("In-flight byte limit must be positive: " + maxInFlightBytes);
+        }
+        this.fileAnalyzer = fileAnalyzer;
+        this.parserThreads = parserThreads;
+        this.maxInFlightBytes = maxInFlightBytes;
+    }
+
+    // 결과는 순회 순서대로 정렬해서 반환 (순차 분석과 같은 순서)
+    public List<Outcome> run(String rootPath, FileParser parser, ProgressListener listener) {
+        BlockingQueue<WorkItem> fileQueue = new ArrayBlockingQueue<>(FILE_QUEUE_CAPACITY);
+        BlockingQueue<WorkItem> sourceQueue = new ArrayBlockingQueue<>(parserThreads * 2);
+        BlockingQueue<Object> resultQueue = new LinkedBlockingQueue<>();
+        Semaphore inFlightBytes = new Semaphore(maxInFlightBytes);
+        AtomicInteger discovered = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(parserThreads + 2);
+        List<Future<?>> stages = new ArrayList<>();
+
+        try {
+            stages.add(executor.submit(() -> walk(rootPath, fileQueue, discovered)));
+            stages.add(executor.submit(() -> read(parser, fileQueue, sourceQueue, resultQueue, inFlightBytes)));
+            for (int i = 0; i < parserThreads; i++) {
+                stages.add(executor.submit(() -> parse(parser, sourceQueue, resultQueue, inFlightBytes)));
+            }
+
+            List<Outcome> outcomes = collect(resultQueue, discovered, listener);
+
+            // 파서 → 읽기 → 순회 순으로 확인 (파서가 비정상 종료했다면 리더는 아직 대기 중일 수 있음)
+            for (int i = stages.size() - 1; i >= 0; i--) {
+                stages.get(i).get();
+            }
+
+            outcomes.sort(Comparator.comparingInt(outcome -> outcome.index));
+            return outcomes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Analysis pipeline was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Analysis pipeline stage failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 1단계: 디렉토리 순회
+    private void walk(String rootPath, BlockingQueue<WorkItem> fileQueue, AtomicInteger discovered) {
+        try {
+            fileAnalyzer.walkJavaFiles(rootPath, file ->
+                    put(fileQueue, new WorkItem(discovered.getAndIncrement(), file, null, 0)));
+        } finally {
+            put(fileQueue, WorkItem.END);
+        }
+    }
+
+    // 2단계: 파일 읽기 (읽기 전에 바이트 예산을 확보)
+    private void read(FileParser parser, BlockingQueue<WorkItem> fileQueue, BlockingQueue<WorkItem> sourceQueue,
+                      BlockingQueue<Object> resultQueue, Semaphore inFlightBytes) {
+        try {
+            while (true) {
+                WorkItem item = take(fileQueue);
+                if (item == WorkItem.END) {
+                    break;
+                }
+
+                ClassInfo known = parser.parseWithoutReading(item.file);
+                if (known != null) {
+                    put(resultQueue, new Outcome(item.index, item.file, known, null));
+                    continue;
+                }
+
+                int reserved = reserveBytes(item.file, inFlightBytes);
+                try {
+                    String content = item.file.readContent();
+                    put(sourceQueue, new WorkItem(item.index, item.file, content, reserved));
+                } catch (IOException e) {
+                    inFlightBytes.release(reserved);
+                    put(resultQueue, new Outcome(item.index, item.file, null, e));
+                }
+            }
+        } finally {
+            for (int i = 0; i < parserThreads; i++) {
+                put(sourceQueue, WorkItem.END);
+            }
+        }
+    }
+
+    // 3단계: 토큰화 + 파싱
+    private void parse(FileParser parser, BlockingQueue<WorkItem> sourceQueue,
+                       BlockingQueue<Object> resultQueue, Semaphore inFlightBytes) {
+        try {
+            while (true) {
+                WorkItem item = take(sourceQueue);
+                if (item == WorkItem.END) {
+                    break;
+                }
+
+                Outcome outcome;
+                try {
+                    outcome = new Outcome(item.index, item.file, parser.parse(item.file, item.content), null);
+                } catch (Exception e) {
+                    outcome = new Outcome(item.index, item.file, null, e);
+                } finally {
+                    inFlightBytes.release(item.reservedBytes);
+                }
+                put(resultQueue, outcome);
+            }
+        } finally {
+            put(resultQueue, WorkItem.END);
+        }
+    }
+
+    // 4단계: 호출 스레드에서 결과 수집 (모든 파서 워커의 종료 신호까지)
+    private List<Outcome> collect(BlockingQueue<Object> resultQueue, AtomicInteger discovered,
+                                  ProgressListener listener) throws InterruptedException {
+        List<Outcome> outcomes = new ArrayList<>();
+        int finishedWorkers = 0;
+
+        while (finishedWorkers < parserThreads) {
+            Object result = resultQueue.take();
+            if (result == WorkItem.END) {
+                finishedWorkers++;
+                continue;
+            }
+
+            outcomes.add((Outcome) result);
+            if (listener != null) {
+                listener.onProgress(outcomes.size(), discovered.get());
+            }
+        }
+
+        return outcomes;
+    }
+
+    private int reserveBytes(FileNode file, Semaphore inFlightBytes) {
+        long size = new File(file.getPath()).length();
+        int reserved = (int) Math.max(1, Math.min(size, maxInFlightBytes));
+        try {
+            inFlightBytes.acquire(reserved);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for read budget", e);
+        }
+        return reserved;
+    }
+
+    private static <T> void put(BlockingQueue<T> queue, T item) {
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while handing off work", e);
+        }
+    }
+
+    private static <T> T take(BlockingQueue<T> queue) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for work", e);
+        }
+    }
+}
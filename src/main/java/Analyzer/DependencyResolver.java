@@ -1,66 +1,545 @@
 package Analyzer;
 
+import Analyzer.Graph.DependencyGraph;
+import Analyzer.Graph.MethodCallGraph;
 import SourceParser.Model.ClassInfo;
 import SourceParser.Model.MethodCall;
 import SourceParser.Model.MethodInfo;
+import SourceParser.Model.Parameter;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class DependencyResolver {
-    private Map<String, ClassInfo> classMap;  // className -> ClassInfo
+    // 병렬 분석 시 한 작업이 맡는 최소 클래스 수
+    private static final int CHUNK_SIZE = 256;
+    // 상속 순환이 있어도 메서드 탐색이 끝나도록 제한
+    private static final int MAX_SUPERCLASS_DEPTH = 64;
+    private static final MethodInfo[] NO_METHODS = new MethodInfo[0];
+
+    private SymbolTable symbolTable;  // package -> simpleName -> ClassInfo, FQN -> ClassInfo
+    private final List<ClassInfo> classes;  // 분석 대상 클래스 (그래프 노드 순서)
+    private final Map<ClassInfo, Map<String, MethodInfo[]>> declaredMethods;  // ClassInfo -> 메서드명 -> 메서드 (선언 순서)
+    private final Map<ClassInfo, ClassInfo> superclasses;  // ClassInfo -> 프로젝트 안의 상위 클래스
+    private final Map<ClassInfo, ImportIndex> classImportIndexes;  // ClassInfo -> import 색인
+    private final Map<Set<String>, ImportIndex> importIndexes;  // import 목록 -> 공유 색인
+    private final Map<ClassInfo, Resolution> resolutions;  // ClassInfo -> 마지막 해결 결과
+    private final ResolutionCache resolutionCache;
+    private Map<ClassInfo, Integer> classIds;  // ClassInfo -> 그래프 노드 ID
+    private DependencyGraph dependencyGraph;
+    private MethodCallGraph methodCallGraph;
+    private int threadCount;
+    private boolean methodCallGraphEnabled = true;
+
+    // 한 클래스의 해결 결과. 정수 ID는 클래스가 추가/삭제되면 바뀌므로 객체로 보관하고 그래프를 만들 때 ID로 변환
+    private static final class Resolution {
+        private final ClassInfo[] dependencies;  // 프로젝트 안의 의존 대상 클래스
+        private final MethodInfo[][] callees;    // 메서드별 호출 대상 메서드 (선언 순서)
+
+        private Resolution(ClassInfo[] dependencies, MethodInfo[][] callees) {
+            this.dependencies = dependencies;
+            this.callees = callees;
+        }
+    }
 
     public DependencyResolver() {
-        this.classMap = new HashMap<>();
+        this(ResolutionCache.DEFAULT_MAX_ENTRIES);
+    }
+
+    public DependencyResolver(int resolutionCacheSize) {
+        this.symbolTable = new SymbolTable();
+        this.classes = new ArrayList<>();
+        this.declaredMethods = new IdentityHashMap<>();
+        this.superclasses = new IdentityHashMap<>();
+        this.classImportIndexes = new IdentityHashMap<>();
+        this.importIndexes = new HashMap<>();
+        this.resolutions = new IdentityHashMap<>();
+        this.resolutionCache = new ResolutionCache(resolutionCacheSize);
+        this.classIds = new IdentityHashMap<>();
+        this.threadCount = Runtime.getRuntime().availableProcessors();
+    }
+
+    // 1이면 호출 스레드에서 순서대로 분석
+    public void setThreadCount(int threadCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1: " + threadCount);
+        }
+        this.threadCount = threadCount;
+    }
+
+    // false면 호출을 메서드에 연결하지 않음 (클래스 의존성만 필요한 영향 분석 등). 메서드 호출 그래프는 null
+    public void setMethodCallGraphEnabled(boolean methodCallGraphEnabled) {
+        this.methodCallGraphEnabled = methodCallGraphEnabled;
     }
 
     // 모든 클래스의 의존성 분석
     public void resolveDependencies(List<ClassInfo> classes) {
-        // 1. 클래스 맵 구축 (빠른 검색을 위해)
-        buildClassMap(classes);
+        // 1. 심볼 테이블, 선언 메서드, import 색인, 상위 클래스 구축 (2단계에서는 읽기만 함)
+        this.classes.clear();
+        this.classes.addAll(classes);
+        symbolTable = new SymbolTable(classes);
+        declaredMethods.clear();
+        superclasses.clear();
+        classImportIndexes.clear();
+        importIndexes.clear();
+        resolutions.clear();
+        resolutionCache.clear();
+        resolutionCache.resetStats();  // 적중/실패 수는 전체 분석부터 집계 (증분 분석은 누적)
+
+        for (ClassInfo classInfo : classes) {
+            indexClass(classInfo);
+        }
+        for (ClassInfo classInfo : classes) {
+            linkSuperclass(classInfo);
+        }
 
         // 2. 각 클래스의 의존성 분석
+        resolveAll(classes.toArray(new ClassInfo[0]));
+
+        // 3. 프로젝트 내부 클래스 / 메서드 사이의 간선으로 그래프 구성
+        buildGraphs();
+    }
+
+    // 증분 분석: 클래스 추가. 새 클래스와 해결 결과가 바뀔 수 있는 클래스만 다시 분석하고, 다시 분석한 클래스 수를 반환
+    public int addClass(ClassInfo classInfo) {
+        classes.add(classInfo);
+        symbolTable.add(classInfo);
+        indexClass(classInfo);
+
+        Set<ClassInfo> affected = collectAffected(classInfo);
+        affected.add(classInfo);
+        return reresolve(affected);
+    }
+
+    // 증분 분석: FQN이 같은 클래스를 새 ClassInfo로 교체 (그래프 노드 순서 유지), 없으면 추가
+    public int updateClass(ClassInfo classInfo) {
+        int index = indexOf(classInfo.getQualifiedName());
+        if (index < 0) {
+            return addClass(classInfo);
+        }
+
+        ClassInfo previous = classes.get(index);
+        Set<ClassInfo> affected = collectAffected(previous);
+        affected.remove(previous);
+        affected.add(classInfo);
+
+        classes.set(index, classInfo);
+        unindexClass(previous);
+        symbolTable.add(classInfo);
+        indexClass(classInfo);
+        return reresolve(affected);
+    }
+
+    // 증분 분석: FQN이 같은 클래스 삭제, 없으면 아무것도 하지 않고 0 반환
+    public int removeClass(ClassInfo classInfo) {
+        int index = indexOf(classInfo.getQualifiedName());
+        if (index < 0) {
+            return 0;
+        }
+
+        ClassInfo removed = classes.remove(index);
+        Set<ClassInfo> affected = collectAffected(removed);
+        affected.remove(removed);
+
+        unindexClass(removed);
+        // 같은 FQN의 다른 클래스가 남아 있으면 전체 분석과 같게 마지막 클래스를 다시 등록
+        for (int i = classes.size() - 1; i >= 0; i--) {
+            if (classes.get(i).getQualifiedName().equals(removed.getQualifiedName())) {
+                symbolTable.add(classes.get(i));
+                break;
+            }
+        }
+        return reresolve(affected);
+    }
+
+    private int indexOf(String qualifiedName) {
+        ClassInfo registered = symbolTable.findByQualifiedName(qualifiedName);
+        for (int i = 0; i < classes.size(); i++) {
+            if (classes.get(i) == registered) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // changed의 추가/변경/삭제로 해결 결과가 바뀔 수 있는 클래스:
+    // 같은 패키지, changed를 가리키는 import가 있는 클래스, changed 또는 그 하위 클래스에 의존하는 클래스
+    private Set<ClassInfo> collectAffected(ClassInfo changed) {
+        Set<ClassInfo> affected = Collections.newSetFromMap(new IdentityHashMap<>());
+        String packageName = packageKey(changed.getPackageName());
+        String qualifiedName = changed.getQualifiedName();
+
+        // import 목록이 같은 클래스는 색인을 공유하므로 색인별로 한 번만 확인
+        Set<ImportIndex> importers = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ImportIndex importIndex : importIndexes.values()) {
+            if (importIndex.refersTo(qualifiedName, changed.getPackageName())) {
+                importers.add(importIndex);
+            }
+        }
+
+        for (ClassInfo classInfo : classes) {
+            if (packageKey(classInfo.getPackageName()).equals(packageName)
+                    || importers.contains(classImportIndexes.get(classInfo))) {
+                affected.add(classInfo);
+            }
+        }
+        addHierarchyDependents(changed, affected);
+        return affected;
+    }
+
+    // root와 그 하위 클래스, 그리고 이들에 의존하는 클래스 (하위 클래스를 통해 상속된 메서드를 호출하는 클래스 포함)
+    private void addHierarchyDependents(ClassInfo root, Set<ClassInfo> affected) {
+        List<ClassInfo> hierarchy = new ArrayList<>();
+        hierarchy.add(root);
         for (ClassInfo classInfo : classes) {
-            Set<String> dependencies = new HashSet<>();
-
-            // 메서드 호출에서 의존성 추출
-            for (MethodInfo method : classInfo.getMethods()) {
-                for (MethodCall call : method.getMethodCalls()) {
-                    String resolvedClass = resolveClassName(call.getTargetClass(), classInfo);
-                    if (resolvedClass != null && !resolvedClass.equals(classInfo.getClassName())) {
-                        dependencies.add(resolvedClass);
+            if (classInfo != root && extendsClass(classInfo, root)) {
+                hierarchy.add(classInfo);
+            }
+        }
+
+        for (ClassInfo member : hierarchy) {
+            affected.add(member);
+            Integer id = classIds.get(member);
+            if (id != null) {
+                dependencyGraph.forEachPredecessor(id, dependent -> affected.add(dependencyGraph.getClassInfo(dependent)));
+            }
+        }
+    }
+
+    private boolean extendsClass(ClassInfo classInfo, ClassInfo ancestor) {
+        ClassInfo current = superclasses.get(classInfo);
+        for (int depth = 0; current != null && depth < MAX_SUPERCLASS_DEPTH; depth++) {
+            if (current == ancestor) {
+                return true;
+            }
+            current = superclasses.get(current);
+        }
+        return false;
+    }
+
+    // affected의 상위 클래스를 다시 연결하고 분석한 뒤 그래프를 다시 구성
+    private int reresolve(Set<ClassInfo> affected) {
+        // 같은 패키지/와일드카드 해결 결과가 바뀌었을 수 있으므로 캐시 항목은 비움 (적중/실패 수는 유지)
+        resolutionCache.clear();
+
+        // 상위 클래스가 바뀐 클래스는 그 클래스를 통해 상속 메서드를 호출하는 클래스까지 포함
+        List<ClassInfo> relinked = new ArrayList<>();
+        for (ClassInfo classInfo : affected) {
+            if (declaredMethods.containsKey(classInfo)) {
+                ClassInfo previous = superclasses.get(classInfo);
+                linkSuperclass(classInfo);
+                if (previous != superclasses.get(classInfo)) {
+                    relinked.add(classInfo);
+                }
+            }
+        }
+        for (ClassInfo classInfo : relinked) {
+            addHierarchyDependents(classInfo, affected);
+        }
+
+        ClassInfo[] targets = affected.stream()
+                .filter(declaredMethods::containsKey)
+                .toArray(ClassInfo[]::new);
+
+        resolveAll(targets);
+        buildGraphs();
+        return targets.length;
+    }
+
+    // 선언 메서드와 import 색인 등록
+    private void indexClass(ClassInfo classInfo) {
+        declaredMethods.put(classInfo, collectMethods(classInfo));
+        // import 목록이 같은 클래스끼리 색인 공유 (해결 캐시의 키)
+        classImportIndexes.put(classInfo, getImportIndex(classInfo.getImports()));
+    }
+
+    private void unindexClass(ClassInfo classInfo) {
+        symbolTable.remove(classInfo);
+        declaredMethods.remove(classInfo);
+        superclasses.remove(classInfo);
+        classImportIndexes.remove(classInfo);
+        resolutions.remove(classInfo);
+    }
+
+    private void linkSuperclass(ClassInfo classInfo) {
+        superclasses.remove(classInfo);
+        String extendsClass = classInfo.getExtendsClass();
+        if (extendsClass != null) {
+            ClassInfo superclass = findProjectClass(simpleNameOf(extendsClass), classInfo, classImportIndexes.get(classInfo));
+            if (superclass != null && superclass != classInfo) {
+                superclasses.put(classInfo, superclass);
+            }
+        }
+    }
+
+    // 결과는 각 클래스의 ClassInfo와 results[i]에만 기록하므로 병렬로 분석해도 경합 없음
+    private void resolveAll(ClassInfo[] targets) {
+        Resolution[] results = new Resolution[targets.length];
+        ResolveTask task = new ResolveTask(targets, results, 0, targets.length);
+        if (threadCount > 1 && targets.length > CHUNK_SIZE) {
+            ForkJoinPool pool = new ForkJoinPool(threadCount);
+            try {
+                pool.invoke(task);
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            task.resolveRange();
+        }
+
+        for (int i = 0; i < targets.length; i++) {
+            resolutions.put(targets[i], results[i]);
+        }
+    }
+
+    // 클래스 / 메서드에 현재 순서대로 정수 ID를 매기고 해결 결과를 CSR 그래프로 변환
+    private void buildGraphs() {
+        ClassInfo[] classArray = classes.toArray(new ClassInfo[0]);
+
+        Map<ClassInfo, Integer> ids = new IdentityHashMap<>(classArray.length * 2);
+        for (int i = 0; i < classArray.length; i++) {
+            ids.put(classArray[i], i);
+        }
+
+        int[][] adjacency = new int[classArray.length][];
+        for (int i = 0; i < classArray.length; i++) {
+            adjacency[i] = toIds(resolutions.get(classArray[i]).dependencies, ids);
+        }
+
+        classIds = ids;
+        dependencyGraph = DependencyGraph.fromAdjacency(classArray, adjacency);
+        methodCallGraph = methodCallGraphEnabled ? buildMethodCallGraph(classArray) : null;
+    }
+
+    private MethodCallGraph buildMethodCallGraph(ClassInfo[] classArray) {
+        int[] methodOffsets = MethodCallGraph.methodOffsets(classArray);
+
+        Map<MethodInfo, Integer> methodIds = new IdentityHashMap<>(methodOffsets[classArray.length] * 2);
+        for (int i = 0; i < classArray.length; i++) {
+            int methodId = methodOffsets[i];
+            for (MethodInfo method : classArray[i].getMethods()) {
+                methodIds.put(method, methodId++);
+            }
+        }
+
+        int[][] callAdjacency = new int[methodOffsets[classArray.length]][];
+        for (int i = 0; i < classArray.length; i++) {
+            MethodInfo[][] callees = resolutions.get(classArray[i]).callees;
+            for (int m = 0; m < callees.length; m++) {
+                callAdjacency[methodOffsets[i] + m] = toIds(callees[m], methodIds);
+            }
+        }
+        return MethodCallGraph.fromAdjacency(classArray, callAdjacency);
+    }
+
+    private static <T> int[] toIds(T[] items, Map<T, Integer> ids) {
+        int[] result = new int[items.length];
+        int count = 0;
+        for (T item : items) {
+            Integer id = ids.get(item);
+            if (id != null) {
+                result[count++] = id;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    // 클래스 구간을 CHUNK_SIZE 이하가 될 때까지 반으로 나눠 병렬 처리
+    private class ResolveTask extends RecursiveAction {
+        private final ClassInfo[] classes;
+        private final Resolution[] results;
+        private final int from;
+        private final int to;
+
+        private ResolveTask(ClassInfo[] classes, Resolution[] results, int from, int to) {
+            this.classes = classes;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                resolveRange();
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new ResolveTask(classes, results, from, middle),
+                    new ResolveTask(classes, results, middle, to));
+        }
+
+        private void resolveRange() {
+            for (int i = from; i < to; i++) {
+                results[i] = resolveClass(classes[i]);
+            }
+        }
+    }
+
+    // 의존성 이름은 ClassInfo에 기록하고, 프로젝트 내부 의존 대상 클래스와 메서드별 호출 대상 메서드를 반환
+    private Resolution resolveClass(ClassInfo classInfo) {
+        ImportIndex importIndex = classImportIndexes.get(classInfo);
+        Set<String> dependencies = new HashSet<>();
+        Map<String, ClassInfo> projectClasses = new HashMap<>();  // 호출 대상 클래스명 → 프로젝트 클래스 (외부면 null)
+
+        // 메서드 호출에서 의존성과 호출 대상 메서드 추출
+        MethodInfo[][] callees = new MethodInfo[classInfo.getMethods().size()][];
+        int methodIndex = 0;
+        for (MethodInfo method : classInfo.getMethods()) {
+            List<MethodInfo[]> called = new ArrayList<>();
+            for (MethodCall call : method.getMethodCalls()) {
+                String resolvedClass = resolveClassName(call, classInfo, importIndex);
+                if (resolvedClass == null) {
+                    continue;
+                }
+
+                ClassInfo targetClass;
+                if (resolvedClass.equals(classInfo.getClassName())) {
+                    targetClass = classInfo;
+                } else {
+                    dependencies.add(resolvedClass);
+                    if (!methodCallGraphEnabled) {
+                        continue;
+                    }
+                    targetClass = projectClasses.get(resolvedClass);
+                    if (targetClass == null && !projectClasses.containsKey(resolvedClass)) {
+                        targetClass = findProjectClass(resolvedClass, classInfo, importIndex);
+                        projectClasses.put(resolvedClass, targetClass);
+                    }
+                }
+
+                if (targetClass != null && methodCallGraphEnabled) {
+                    MethodInfo[] matched = findCalledMethods(targetClass, call);
+                    if (matched.length > 0) {
+                        called.add(matched);
                     }
                 }
             }
+            callees[methodIndex++] = concat(called);
+        }
+
+        // extends에서 의존성 추가 (호출 대상과 같이 단순 클래스명으로 기록)
+        if (classInfo.getExtendsClass() != null) {
+            dependencies.add(simpleNameOf(classInfo.getExtendsClass()));
+        }
 
-            // extends에서 의존성 추가
-            if (classInfo.getExtendsClass() != null) {
-                dependencies.add(classInfo.getExtendsClass());
+        // implements에서 의존성 추가
+        if (classInfo.getImplementsList() != null) {
+            for (String implemented : classInfo.getImplementsList()) {
+                dependencies.add(simpleNameOf(implemented));
             }
+        }
+
+        // ClassInfo에 의존성 설정
+        classInfo.getDependencies().clear();
+        classInfo.getDependencies().addAll(dependencies);
 
-            // implements에서 의존성 추가
-            if (classInfo.getImplementsList() != null) {
-                dependencies.addAll(classInfo.getImplementsList());
+        ClassInfo[] targets = new ClassInfo[dependencies.size()];
+        int count = 0;
+        for (String dependency : dependencies) {
+            ClassInfo target = findProjectClass(dependency, classInfo, importIndex);
+            if (target != null) {
+                targets[count++] = target;
             }
+        }
+        return new Resolution(count == targets.length ? targets : Arrays.copyOf(targets, count), callees);
+    }
 
-            // ClassInfo에 의존성 설정
-            classInfo.getDependencies().clear();
-            classInfo.getDependencies().addAll(dependencies);
+    // 이름 + 인자 수가 맞는 메서드. 선언되지 않았으면 프로젝트 안의 상위 클래스에서 찾음
+    // 인자 타입은 알 수 없으므로 인자 수가 같은 오버로드는 모두 호출 대상으로 봄
+    private MethodInfo[] findCalledMethods(ClassInfo targetClass, MethodCall call) {
+        ClassInfo current = targetClass;
+        for (int depth = 0; current != null && depth < MAX_SUPERCLASS_DEPTH; depth++) {
+            MethodInfo[] candidates = declaredMethods.get(current).get(call.getTargetMethod());
+            if (candidates != null) {
+                MethodInfo[] matched = matchArgumentCount(candidates, call.getArgumentCount());
+                if (matched.length > 0) {
+                    return matched;
+                }
+            }
+            current = superclasses.get(current);
         }
+        return NO_METHODS;
     }
 
-    // 클래스명 맵 구축
-    private void buildClassMap(List<ClassInfo> classes) {
-        classMap.clear();
-        for (ClassInfo classInfo : classes) {
-            classMap.put(classInfo.getClassName(), classInfo);
+    // 고정 인자 메서드가 우선, 없으면 가변 인자 메서드 (인자 수를 모르면 이름이 같은 메서드 전부)
+    private static MethodInfo[] matchArgumentCount(MethodInfo[] candidates, int argumentCount) {
+        if (argumentCount == MethodCall.UNKNOWN_ARGUMENT_COUNT) {
+            return candidates;
+        }
+
+        MethodInfo[] matched = new MethodInfo[candidates.length];
+        int count = 0;
+        for (MethodInfo candidate : candidates) {
+            if (candidate.getParameters().size() == argumentCount) {
+                matched[count++] = candidate;
+            }
+        }
+        if (count == 0) {
+            for (MethodInfo candidate : candidates) {
+                List<Parameter> parameters = candidate.getParameters();
+                if (!parameters.isEmpty() && parameters.get(parameters.size() - 1).getType().endsWith("...")
+                        && argumentCount >= parameters.size() - 1) {
+                    matched[count++] = candidate;
+                }
+            }
+        }
+        return count == matched.length ? matched : Arrays.copyOf(matched, count);
+    }
+
+    private static MethodInfo[] concat(List<MethodInfo[]> arrays) {
+        if (arrays.isEmpty()) {
+            return NO_METHODS;
+        }
+        if (arrays.size() == 1) {
+            return arrays.get(0);
+        }
+
+        int length = 0;
+        for (MethodInfo[] array : arrays) {
+            length += array.length;
+        }
+        MethodInfo[] result = new MethodInfo[length];
+        int position = 0;
+        for (MethodInfo[] array : arrays) {
+            System.arraycopy(array, 0, result, position, array.length);
+            position += array.length;
         }
+        return result;
     }
 
-    // targetClass를 실제 클래스명으로 변환
-    private String resolveClassName(String targetClass, ClassInfo context) {
+    // 의존성 이름 → 분석 대상 프로젝트의 클래스 (import → 같은 패키지 → 와일드카드 순), 외부 클래스면 null
+    private ClassInfo findProjectClass(String simpleName, ClassInfo context, ImportIndex importIndex) {
+        String qualifiedName = importIndex.getQualifiedName(simpleName);
+        if (qualifiedName == null) {
+            qualifiedName = importIndex.getStaticOwnerQualifiedName(simpleName);
+        }
+        if (qualifiedName != null) {
+            return symbolTable.findByQualifiedName(qualifiedName);
+        }
+
+        ClassInfo samePackage = symbolTable.find(context.getPackageName(), simpleName);
+        if (samePackage != null) {
+            return samePackage;
+        }
+
+        for (String wildcardPackage : importIndex.getWildcardPackages()) {
+            ClassInfo classInfo = symbolTable.find(wildcardPackage, simpleName);
+            if (classInfo != null) {
+                return classInfo;
+            }
+        }
+        return null;
+    }
+
+    // 호출 대상(targetClass)을 실제 클래스명으로 변환
+    private String resolveClassName(MethodCall call, ClassInfo context, ImportIndex importIndex) {
+        String targetClass = call.getTargetClass();
         if (targetClass == null) {
-            // targetClass가 null이면 같은 클래스 내 호출
-            return context.getClassName();
+            // targetClass가 null이면 같은 클래스 내 호출 또는 static import 된 메서드
+            return resolveUnqualifiedCall(call.getTargetMethod(), context, importIndex);
         }
 
         // "this"는 현재 클래스
@@ -68,58 +547,121 @@ public class DependencyResolver {
             return context.getClassName();
         }
 
+        // 같은 패키지 + 같은 import 목록에서 이미 해결한 이름이면 재사용
+        String packageName = context.getPackageName();
+        String cached = resolutionCache.get(packageName, importIndex, targetClass);
+        if (cached != null) {
+            return cached;
+        }
+
+        String resolved = resolveReceiver(targetClass, packageName, importIndex);
+        resolutionCache.put(packageName, importIndex, targetClass, resolved);
+        return resolved;
+    }
+
+    // 대상 이름 해결: import → 같은 패키지 → 와일드카드 import → 이름 그대로
+    private String resolveReceiver(String targetClass, String packageName, ImportIndex importIndex) {
         // 1. Import 문에서 찾기
-        String resolvedFromImport = resolveFromImports(targetClass, context.getImports());
+        String resolvedFromImport = importIndex.findSimpleName(targetClass);
         if (resolvedFromImport != null) {
             return resolvedFromImport;
         }
 
         // 2. 같은 패키지 내에서 찾기
-        String resolvedFromPackage = resolveFromSamePackage(targetClass, context.getPackageName());
+        String resolvedFromPackage = resolveFromSamePackage(targetClass, packageName);
         if (resolvedFromPackage != null) {
             return resolvedFromPackage;
         }
 
-        // 3. 그냥 targetClass를 클래스명으로 사용 (카멜케이스를 파스칼케이스로)
+        // 3. 와일드카드 import 패키지에서 찾기
+        String resolvedFromWildcard = resolveFromWildcardImports(capitalizeFirstLetter(targetClass), importIndex);
+        if (resolvedFromWildcard != null) {
+            return resolvedFromWildcard;
+        }
+
+        // 4. 그냥 targetClass를 클래스명으로 사용 (카멜케이스를 파스칼케이스로)
         return capitalizeFirstLetter(targetClass);
     }
 
-    // Import 문에서 클래스명 찾기
-    private String resolveFromImports(String targetClass, List<String> imports) {
-        String targetLower = targetClass.toLowerCase();
+    // validate() 처럼 대상 없는 호출: 클래스에 선언된 메서드가 static import 보다 우선
+    private String resolveUnqualifiedCall(String methodName, ClassInfo context, ImportIndex importIndex) {
+        if (methodName == null || declaresMethod(context, methodName)) {
+            return context.getClassName();
+        }
 
-        for (String importStatement : imports) {
-            // import com.example.UserRepository;
-            String[] parts = importStatement.split("\\.");
-            if (parts.length > 0) {
-                String className = parts[parts.length - 1];
+        // import static org.junit.Assert.assertEquals;
+        String owner = importIndex.getStaticMemberOwner(methodName);
+        if (owner != null) {
+            return simpleNameOf(owner);
+        }
 
-                // userRepository → UserRepository 매칭
-                if (className.toLowerCase().equals(targetLower)) {
-                    return className;
-                }
+        // import static com.example.Util.*; (분석 대상 프로젝트의 클래스만 확인 가능)
+        for (String wildcardOwner : importIndex.getStaticWildcardOwners()) {
+            ClassInfo ownerClass = symbolTable.findByQualifiedName(wildcardOwner);
+            if (ownerClass != null && declaresMethod(ownerClass, methodName)) {
+                return ownerClass.getClassName();
             }
         }
 
-        return null;
+        return context.getClassName();
     }
 
     // 같은 패키지 내에서 클래스 찾기
     private String resolveFromSamePackage(String targetClass, String packageName) {
-        String targetPascal = capitalizeFirstLetter(targetClass);
+        if (packageName == null) {
+            return null;
+        }
+
+        ClassInfo classInfo = symbolTable.find(packageName, capitalizeFirstLetter(targetClass));
+        return classInfo != null ? classInfo.getClassName() : null;
+    }
 
-        // 같은 패키지의 클래스 중에서 찾기
-        for (ClassInfo classInfo : classMap.values()) {
-            if (classInfo.getPackageName() != null &&
-                    classInfo.getPackageName().equals(packageName) &&
-                    classInfo.getClassName().equals(targetPascal)) {
+    // import com.example.model.*; 패키지 중 분석된 클래스가 있는 곳에서 찾기
+    private String resolveFromWildcardImports(String simpleName, ImportIndex importIndex) {
+        for (String wildcardPackage : importIndex.getWildcardPackages()) {
+            ClassInfo classInfo = symbolTable.find(wildcardPackage, simpleName);
+            if (classInfo != null) {
                 return classInfo.getClassName();
             }
         }
-
         return null;
     }
 
+    // 순서만 다른 import 목록도 같은 색인을 사용
+    private ImportIndex getImportIndex(List<String> imports) {
+        return importIndexes.computeIfAbsent(new HashSet<>(imports), ImportIndex::of);
+    }
+
+    private boolean declaresMethod(ClassInfo classInfo, String methodName) {
+        Map<String, MethodInfo[]> methods = declaredMethods.get(classInfo);
+        return methods != null && methods.containsKey(methodName);
+    }
+
+    // 메서드명 → 메서드 목록 (오버로드는 선언 순서대로)
+    private static Map<String, MethodInfo[]> collectMethods(ClassInfo classInfo) {
+        Map<String, MethodInfo[]> methods = new HashMap<>();
+        for (MethodInfo method : classInfo.getMethods()) {
+            MethodInfo[] overloads = methods.get(method.getMethodName());
+            if (overloads == null) {
+                overloads = new MethodInfo[]{method};
+            } else {
+                overloads = Arrays.copyOf(overloads, overloads.length + 1);
+                overloads[overloads.length - 1] = method;
+            }
+            methods.put(method.getMethodName(), overloads);
+        }
+        return methods;
+    }
+
+    private static String packageKey(String packageName) {
+        return packageName != null ? packageName : "";
+    }
+
+    // com.example.UserRepository → UserRepository
+    private static String simpleNameOf(String name) {
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
     // 첫 글자를 대문자로 (userRepository → UserRepository)
     private String capitalizeFirstLetter(String str) {
         if (str == null || str.isEmpty()) {
@@ -128,6 +670,29 @@ public class DependencyResolver {
         return str.substring(0, 1).toUpperCase() + str.substring(1);
     }
 
+    // 현재 분석 대상 클래스 (그래프 노드 순서, 증분 분석 결과 반영)
+    public List<ClassInfo> getClasses() {
+        return Collections.unmodifiableList(classes);
+    }
+
+    public SymbolTable getSymbolTable() {
+        return symbolTable;
+    }
+
+    // resolveDependencies 이후 사용 가능, 그 전에는 null
+    public DependencyGraph getDependencyGraph() {
+        return dependencyGraph;
+    }
+
+    // resolveDependencies 이후 사용 가능, 그 전이나 setMethodCallGraphEnabled(false)이면 null
+    public MethodCallGraph getMethodCallGraph() {
+        return methodCallGraph;
+    }
+
+    public ResolutionCache getResolutionCache() {
+        return resolutionCache;
+    }
+
     // 의존성 통계 출력
     public void printDependencyStatistics(List<ClassInfo> classes) {
         System.out.println("\n=== Dependency Statistics ===");
@@ -6,6 +6,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class FileAnalyzer {
     public FileNode buildFileTree() {
@@ -48,6 +49,10 @@ public class FileAnalyzer {
         return buildJavaFileTree(rootDir);
     }
 
+    public FileNode buildJavaFileTree(String path) {
+        return buildJavaFileTree(new File(path));
+    }
+
     private FileNode buildJavaFileTree(File file) {
         FileNode node = new FileNode(
                 file.getName(),
@@ -77,7 +82,14 @@ public class FileAnalyzer {
     }
 
     public List<FileNode> getAllJavaFiles() {
-        FileNode root = buildJavaFileTree();
+        return collectJavaFiles(buildJavaFileTree());
+    }
+
+    public List<FileNode> getAllJavaFiles(String path) {
+        return collectJavaFiles(buildJavaFileTree(path));
+    }
+
+    private List<FileNode> collectJavaFiles(FileNode root) {
         List<FileNode> javaFiles = new ArrayList<>();
         collectJavaFiles(root, javaFiles);
         return javaFiles;
@@ -93,6 +105,28 @@ public class FileAnalyzer {
         }
     }
 
+    // 트리를 만들지 않고 발견 즉시 .java 파일을 넘겨줌 (getAllJavaFiles와 같은 순서)
+    public void walkJavaFiles(String path, Consumer<FileNode> visitor) {
+        walkJavaFiles(new File(path), visitor);
+    }
+
+    private void walkJavaFiles(File directory, Consumer<FileNode> visitor) {
+        File[] children = directory.listFiles();
+        if (children == null) {
+            return;
+        }
+
+        for (File child : children) {
+            if (child.isHidden()) continue;
+
+            if (child.isDirectory()) {
+                walkJavaFiles(child, visitor);
+            } else if (child.getName().endsWith(".java")) {
+                visitor.accept(new FileNode(child.getName(), child.getAbsolutePath(), false));
+            }
+        }
+    }
+
     public String readJavaFile(FileNode fileNode) throws IOException {
         if (!fileNode.isJavaFile()) {
             throw new IOException("Not a Java file: " + fileNode.getPath());
@@ -0,0 +1,60 @@
+package Analyzer;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * git 기준 커밋 이후 변경된 파일 목록 (--impact-since).
+ */
+public final class GitChanges {
+    private GitChanges() {
+    }
+
+    // ref 이후 수정/추가/삭제된 파일 + 추적되지 않는 새 파일 (projectRoot 기준 상대 경로, projectRoot 밖은 제외)
+    public static List<String> since(File projectRoot, String ref) throws IOException {
+        if (ref.isEmpty() || ref.startsWith("-")) {
+            throw new IllegalArgumentException("Invalid git ref: " + ref);
+        }
+
+        List<String> files = new ArrayList<>(run(projectRoot,
+                "git", "-c", "core.quotepath=off", "diff", "--name-only", "--relative", ref, "--"));
+        files.addAll(run(projectRoot,
+                "git", "-c", "core.quotepath=off", "ls-files", "--others", "--exclude-standard"));
+        return files;
+    }
+
+    private static List<String> run(File directory, String... command) throws IOException {
+        Process process = new ProcessBuilder(command)
+                .directory(directory)
+                .redirectErrorStream(true)
+                .start();
+
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    lines.add(line);
+                }
+            }
+        }
+
+        try {
+            int exitCode = process.waitFor();
+            if (exitCode != 0) {
+                throw new IOException(String.join(" ", command) + " failed (exit " + exitCode + "): "
+                        + String.join("\n", lines));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while running git", e);
+        }
+        return lines;
+    }
+}
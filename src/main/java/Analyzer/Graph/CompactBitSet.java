@@ -0,0 +1,291 @@
+package Analyzer.Graph;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 0 이상 정수 집합 (roaring bitmap 방식).
+ * 값의 상위 16비트로 나눈 구간마다 원소가 적으면 정렬된 char 배열, 많으면 1024개 long 비트맵으로 저장한다.
+ * 클래스 ID처럼 몇몇 구간에 몰려 있는 희소 집합을 작게 유지하면서 합집합을 빠르게 계산하기 위함.
+ */
+public class CompactBitSet {
+    // 배열 구간이 이 개수를 넘으면 비트맵으로 전환 (4096 * 2바이트 = 비트맵 8KB)
+    private static final int ARRAY_LIMIT = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;
+
+    private char[] keys;           // 구간 번호 (상위 16비트), 오름차순
+    private Container[] containers;
+    private int size;              // 사용 중인 구간 수
+
+    public CompactBitSet() {
+        this.keys = new char[4];
+        this.containers = new Container[4];
+    }
+
+    public CompactBitSet copy() {
+        CompactBitSet copy = new CompactBitSet();
+        copy.keys = Arrays.copyOf(keys, Math.max(size, 1));
+        copy.containers = new Container[copy.keys.length];
+        for (int i = 0; i < size; i++) {
+            copy.containers[i] = containers[i].copy();
+        }
+        copy.size = size;
+        return copy;
+    }
+
+    public void add(int value) {
+        checkValue(value);
+        char key = (char) (value >>> 16);
+        int slot = findSlot(key);
+        if (slot < 0) {
+            slot = insertSlot(-slot - 1, key, new ArrayContainer());
+        }
+        containers[slot] = containers[slot].add((char) value);
+    }
+
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int slot = findSlot((char) (value >>> 16));
+        return slot >= 0 && containers[slot].contains((char) value);
+    }
+
+    // this = this ∪ other
+    public void or(CompactBitSet other) {
+        for (int i = 0; i < other.size; i++) {
+            char key = other.keys[i];
+            int slot = findSlot(key);
+            if (slot < 0) {
+                insertSlot(-slot - 1, key, other.containers[i].copy());
+            } else {
+                containers[slot] = containers[slot].or(other.containers[i]);
+            }
+        }
+    }
+
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // 오름차순으로 방문
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    public int[] toArray() {
+        int[] values = new int[cardinality()];
+        int[] position = {0};
+        forEach(value -> values[position[0]++] = value);
+        return values;
+    }
+
+    private int findSlot(char key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private int insertSlot(int slot, char key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, slot, keys, slot + 1, size - slot);
+        System.arraycopy(containers, slot, containers, slot + 1, size - slot);
+        keys[slot] = key;
+        containers[slot] = container;
+        size++;
+        return slot;
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must not be negative: " + value);
+        }
+    }
+
+    // 한 구간 (하위 16비트 값들)
+    private interface Container {
+        // 컨테이너 종류가 바뀔 수 있으므로 결과 컨테이너를 반환
+        Container add(char value);
+
+        Container or(Container other);
+
+        boolean contains(char value);
+
+        int cardinality();
+
+        void forEach(int base, IntConsumer action);
+
+        Container copy();
+    }
+
+    private static final class ArrayContainer implements Container {
+        private char[] values = new char[4];
+        private int cardinality;
+
+        @Override
+        public Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality >= ARRAY_LIMIT) {
+                return toBitmap().add(value);
+            }
+
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(cardinality * 2, ARRAY_LIMIT));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container or(Container other) {
+            if (other instanceof BitmapContainer) {
+                return other.copy().or(this);
+            }
+
+            // 정렬된 두 배열 병합
+            ArrayContainer array = (ArrayContainer) other;
+            char[] merged = new char[cardinality + array.cardinality];
+            int i = 0, j = 0, count = 0;
+            while (i < cardinality && j < array.cardinality) {
+                char a = values[i];
+                char b = array.values[j];
+                if (a == b) {
+                    merged[count++] = a;
+                    i++;
+                    j++;
+                } else if (a < b) {
+                    merged[count++] = a;
+                    i++;
+                } else {
+                    merged[count++] = b;
+                    j++;
+                }
+            }
+            while (i < cardinality) merged[count++] = values[i++];
+            while (j < array.cardinality) merged[count++] = array.values[j++];
+
+            ArrayContainer result = new ArrayContainer();
+            result.values = merged;
+            result.cardinality = count;
+            return count > ARRAY_LIMIT ? result.toBitmap() : result;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(base | values[i]);
+            }
+        }
+
+        @Override
+        public Container copy() {
+            ArrayContainer copy = new ArrayContainer();
+            copy.values = Arrays.copyOf(values, Math.max(cardinality, 1));
+            copy.cardinality = cardinality;
+            return copy;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.set(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer implements Container {
+        private final long[] words = new long[BITMAP_WORDS];
+        private int cardinality;
+
+        private void set(char value) {
+            long before = words[value >>> 6];
+            long after = before | (1L << value);
+            if (before != after) {
+                words[value >>> 6] = after;
+                cardinality++;
+            }
+        }
+
+        @Override
+        public Container add(char value) {
+            set(value);
+            return this;
+        }
+
+        @Override
+        public Container or(Container other) {
+            if (other instanceof ArrayContainer array) {
+                for (int i = 0; i < array.cardinality; i++) {
+                    set(array.values[i]);
+                }
+                return this;
+            }
+
+            long[] otherWords = ((BitmapContainer) other).words;
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                words[i] |= otherWords[i];
+                count += Long.bitCount(words[i]);
+            }
+            cardinality = count;
+            return this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(base | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        public Container copy() {
+            BitmapContainer copy = new BitmapContainer();
+            System.arraycopy(words, 0, copy.words, 0, BITMAP_WORDS);
+            copy.cardinality = cardinality;
+            return copy;
+        }
+    }
+}
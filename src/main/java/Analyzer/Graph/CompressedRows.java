@@ -0,0 +1,76 @@
+package Analyzer.Graph;
+
+import java.util.Arrays;
+
+/**
+ * CSR(compressed sparse row) 인접 배열. offsets[node] ~ offsets[node + 1] 구간이 node의 이웃 (오름차순, 중복 없음).
+ * 클래스 그래프와 메서드 호출 그래프가 공통으로 사용한다.
+ */
+final class CompressedRows {
+    final int[] offsets;
+    final int[] targets;
+
+    private CompressedRows(int[] offsets, int[] targets) {
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    // rows[node] = node의 이웃 목록 (null은 빈 목록), 각 목록을 정렬 + 중복 제거한 뒤 이어 붙임
+    static CompressedRows of(int[][] rows, int nodeCount, boolean keepSelfLoops) {
+        if (rows.length != nodeCount) {
+            throw new IllegalArgumentException("Adjacency size " + rows.length
+                    + " does not match node count " + nodeCount);
+        }
+
+        int[] offsets = new int[nodeCount + 1];
+        int[][] normalized = new int[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            normalized[node] = normalize(node, rows[node] != null ? rows[node] : new int[0], nodeCount, keepSelfLoops);
+            offsets[node + 1] = offsets[node] + normalized[node].length;
+        }
+
+        int[] targets = new int[offsets[nodeCount]];
+        for (int node = 0; node < nodeCount; node++) {
+            System.arraycopy(normalized[node], 0, targets, offsets[node], normalized[node].length);
+        }
+        return new CompressedRows(offsets, targets);
+    }
+
+    private static int[] normalize(int source, int[] targets, int nodeCount, boolean keepSelfLoops) {
+        int[] sorted = targets.clone();
+        Arrays.sort(sorted);
+
+        int count = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            int target = sorted[i];
+            if (target < 0 || target >= nodeCount) {
+                throw new IllegalArgumentException("Node ID out of range: " + target);
+            }
+            if ((keepSelfLoops || target != source) && (count == 0 || sorted[count - 1] != target)) {
+                sorted[count++] = target;
+            }
+        }
+        return count == sorted.length ? sorted : Arrays.copyOf(sorted, count);
+    }
+
+    // 역방향: 진입 차수를 세어 offsets를 만든 뒤 채움 (출발 노드 순으로 채워지므로 정렬 상태 유지)
+    CompressedRows reverse() {
+        int nodeCount = offsets.length - 1;
+        int[] reverseOffsets = new int[nodeCount + 1];
+        for (int target : targets) {
+            reverseOffsets[target + 1]++;
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            reverseOffsets[node + 1] += reverseOffsets[node];
+        }
+
+        int[] reverseTargets = new int[targets.length];
+        int[] cursor = Arrays.copyOf(reverseOffsets, nodeCount);
+        for (int source = 0; source < nodeCount; source++) {
+            for (int i = offsets[source]; i < offsets[source + 1]; i++) {
+                reverseTargets[cursor[targets[i]]++] = source;
+            }
+        }
+        return new CompressedRows(reverseOffsets, reverseTargets);
+    }
+}
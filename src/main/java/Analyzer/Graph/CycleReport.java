@@ -0,0 +1,110 @@
+package Analyzer.Graph;
+
+import SourceParser.Model.ClassInfo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 클래스 / 패키지 단위 의존성 순환 목록.
+ * 순환 하나는 서로 도달 가능한 클래스(패키지) 이름 목록이며, 그래프의 노드 순서를 따른다.
+ */
+public class CycleReport {
+    // 패키지 선언이 없는 클래스의 패키지 표시명
+    public static final String DEFAULT_PACKAGE = "(default)";
+
+    private final List<List<String>> classCycles;
+    private final List<List<String>> packageCycles;
+
+    private CycleReport(List<List<String>> classCycles, List<List<String>> packageCycles) {
+        this.classCycles = classCycles;
+        this.packageCycles = packageCycles;
+    }
+
+    public static CycleReport detect(DependencyGraph graph) {
+        int nodeCount = graph.getNodeCount();
+
+        // 클래스 순환
+        List<List<String>> classCycles = new ArrayList<>();
+        for (int[] cycle : StronglyConnectedComponents.of(graph).getCycles()) {
+            List<String> names = new ArrayList<>(cycle.length);
+            for (int id : cycle) {
+                names.add(graph.getClassInfo(id).getQualifiedName());
+            }
+            classCycles.add(Collections.unmodifiableList(names));
+        }
+
+        // 패키지 그래프: 클래스 간선 중 패키지를 넘는 것만 (처음 등장한 순서로 패키지 ID 부여)
+        Map<String, Integer> packageIds = new HashMap<>();
+        List<String> packageNames = new ArrayList<>();
+        int[] packageOf = new int[nodeCount];
+        for (int id = 0; id < nodeCount; id++) {
+            String packageName = packageName(graph.getClassInfo(id));
+            Integer packageId = packageIds.get(packageName);
+            if (packageId == null) {
+                packageId = packageNames.size();
+                packageIds.put(packageName, packageId);
+                packageNames.add(packageName);
+            }
+            packageOf[id] = packageId;
+        }
+
+        int packageCount = packageNames.size();
+        int[] offsets = new int[packageCount + 1];
+        int[] classOffsets = graph.forwardOffsets();
+        int[] classTargets = graph.forwardTargets();
+        for (int id = 0; id < nodeCount; id++) {
+            for (int i = classOffsets[id]; i < classOffsets[id + 1]; i++) {
+                if (packageOf[id] != packageOf[classTargets[i]]) {
+                    offsets[packageOf[id] + 1]++;
+                }
+            }
+        }
+        for (int p = 0; p < packageCount; p++) {
+            offsets[p + 1] += offsets[p];
+        }
+
+        int[] targets = new int[offsets[packageCount]];
+        int[] cursor = Arrays.copyOf(offsets, packageCount);
+        for (int id = 0; id < nodeCount; id++) {
+            for (int i = classOffsets[id]; i < classOffsets[id + 1]; i++) {
+                int targetPackage = packageOf[classTargets[i]];
+                if (packageOf[id] != targetPackage) {
+                    targets[cursor[packageOf[id]]++] = targetPackage;
+                }
+            }
+        }
+
+        List<List<String>> packageCycles = new ArrayList<>();
+        for (int[] cycle : StronglyConnectedComponents.compute(packageCount, offsets, targets).getCycles()) {
+            List<String> names = new ArrayList<>(cycle.length);
+            for (int packageId : cycle) {
+                names.add(packageNames.get(packageId));
+            }
+            packageCycles.add(Collections.unmodifiableList(names));
+        }
+
+        return new CycleReport(Collections.unmodifiableList(classCycles), Collections.unmodifiableList(packageCycles));
+    }
+
+    private static String packageName(ClassInfo classInfo) {
+        String packageName = classInfo.getPackageName();
+        return packageName == null || packageName.isEmpty() ? DEFAULT_PACKAGE : packageName;
+    }
+
+    public List<List<String>> getClassCycles() {
+        return classCycles;
+    }
+
+    public List<List<String>> getPackageCycles() {
+        return packageCycles;
+    }
+
+    public boolean hasCycles() {
+        return !classCycles.isEmpty() || !packageCycles.isEmpty();
+    }
+}
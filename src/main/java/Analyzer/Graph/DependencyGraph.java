@@ -0,0 +1,117 @@
+package Analyzer.Graph;
+
+import SourceParser.Model.ClassInfo;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * 클래스 의존성 그래프. 클래스는 0..N-1 정수 ID, 간선은 CSR(compressed sparse row) 배열로 저장한다.
+ * 정방향(의존하는 클래스)과 역방향(의존받는 클래스) 모두 offsets[id] ~ offsets[id + 1] 구간이 이웃 목록.
+ * 분석 대상 프로젝트 안의 클래스 사이 간선만 포함한다 (외부 라이브러리 클래스는 노드가 없음).
+ */
+public class DependencyGraph {
+    private final ClassInfo[] nodes;
+    private final int[] forwardOffsets;
+    private final int[] forwardTargets;
+    private final int[] reverseOffsets;
+    private final int[] reverseTargets;
+    private Map<String, Integer> idsByQualifiedName;
+
+    private DependencyGraph(ClassInfo[] nodes, int[] forwardOffsets, int[] forwardTargets,
+                            int[] reverseOffsets, int[] reverseTargets) {
+        this.nodes = nodes;
+        this.forwardOffsets = forwardOffsets;
+        this.forwardTargets = forwardTargets;
+        this.reverseOffsets = reverseOffsets;
+        this.reverseTargets = reverseTargets;
+    }
+
+    // adjacency[id] = id 클래스가 의존하는 클래스 ID 목록 (중복/자기 자신은 제거)
+    public static DependencyGraph fromAdjacency(ClassInfo[] nodes, int[][] adjacency) {
+        CompressedRows forward = CompressedRows.of(adjacency, nodes.length, false);
+        CompressedRows reverse = forward.reverse();
+        return new DependencyGraph(nodes, forward.offsets, forward.targets, reverse.offsets, reverse.targets);
+    }
+
+    public int getNodeCount() {
+        return nodes.length;
+    }
+
+    public int getEdgeCount() {
+        return forwardTargets.length;
+    }
+
+    public ClassInfo getClassInfo(int id) {
+        return nodes[id];
+    }
+
+    // FQN → ID, 없으면 -1 (첫 호출 때 색인 생성)
+    public synchronized int getId(String qualifiedName) {
+        if (idsByQualifiedName == null) {
+            idsByQualifiedName = new HashMap<>(nodes.length * 2);
+            for (int id = 0; id < nodes.length; id++) {
+                idsByQualifiedName.putIfAbsent(nodes[id].getQualifiedName(), id);
+            }
+        }
+        return idsByQualifiedName.getOrDefault(qualifiedName, -1);
+    }
+
+    // 이 클래스가 의존하는 클래스 수
+    public int getFanOut(int id) {
+        return forwardOffsets[id + 1] - forwardOffsets[id];
+    }
+
+    // 이 클래스에 의존하는 클래스 수
+    public int getFanIn(int id) {
+        return reverseOffsets[id + 1] - reverseOffsets[id];
+    }
+
+    // index번째 의존 대상 (0 <= index < getFanOut(id))
+    public int getSuccessor(int id, int index) {
+        return forwardTargets[forwardOffsets[id] + index];
+    }
+
+    public int getPredecessor(int id, int index) {
+        return reverseTargets[reverseOffsets[id] + index];
+    }
+
+    public void forEachSuccessor(int id, IntConsumer action) {
+        for (int i = forwardOffsets[id]; i < forwardOffsets[id + 1]; i++) {
+            action.accept(forwardTargets[i]);
+        }
+    }
+
+    public void forEachPredecessor(int id, IntConsumer action) {
+        for (int i = reverseOffsets[id]; i < reverseOffsets[id + 1]; i++) {
+            action.accept(reverseTargets[i]);
+        }
+    }
+
+    // 같은 패키지의 그래프 알고리즘이 복사 없이 사용하는 CSR 배열
+    int[] forwardOffsets() {
+        return forwardOffsets;
+    }
+
+    int[] forwardTargets() {
+        return forwardTargets;
+    }
+
+    int[] reverseOffsets() {
+        return reverseOffsets;
+    }
+
+    int[] reverseTargets() {
+        return reverseTargets;
+    }
+
+    public int[] getSuccessors(int id) {
+        return Arrays.copyOfRange(forwardTargets, forwardOffsets[id], forwardOffsets[id + 1]);
+    }
+
+    public int[] getPredecessors(int id) {
+        return Arrays.copyOfRange(reverseTargets, reverseOffsets[id], reverseOffsets[id + 1]);
+    }
+}
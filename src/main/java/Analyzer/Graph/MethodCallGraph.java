@@ -0,0 +1,129 @@
+package Analyzer.Graph;
+
+import SourceParser.Model.ClassInfo;
+import SourceParser.Model.MethodInfo;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 메서드 단위 호출 그래프. 메서드는 클래스 순서 → 클래스 안 선언 순서로 0..M-1 정수 ID를 받고,
+ * 호출 간선은 클래스 그래프와 같은 CSR 배열로 저장한다 (재귀 호출은 자기 자신으로의 간선).
+ * 분석 대상 프로젝트 안에서 선언된 메서드 사이의 호출만 포함한다.
+ */
+public class MethodCallGraph {
+    private final ClassInfo[] classes;
+    private final MethodInfo[] methods;
+    private final int[] methodOffsets;  // 클래스 ID → 첫 메서드 ID (methodOffsets[classCount] = 메서드 수)
+    private final int[] ownerClass;     // 메서드 ID → 클래스 ID
+    private final CompressedRows forward;
+    private final CompressedRows reverse;
+
+    private MethodCallGraph(ClassInfo[] classes, MethodInfo[] methods, int[] methodOffsets, int[] ownerClass,
+                            CompressedRows forward, CompressedRows reverse) {
+        this.classes = classes;
+        this.methods = methods;
+        this.methodOffsets = methodOffsets;
+        this.ownerClass = ownerClass;
+        this.forward = forward;
+        this.reverse = reverse;
+    }
+
+    // 클래스 ID → 첫 메서드 ID. 호출 그래프를 만드는 쪽도 같은 번호를 쓰도록 공개
+    public static int[] methodOffsets(ClassInfo[] classes) {
+        int[] offsets = new int[classes.length + 1];
+        for (int classId = 0; classId < classes.length; classId++) {
+            offsets[classId + 1] = offsets[classId] + classes[classId].getMethods().size();
+        }
+        return offsets;
+    }
+
+    // adjacency[methodId] = 그 메서드가 호출하는 메서드 ID 목록 (중복 제거)
+    public static MethodCallGraph fromAdjacency(ClassInfo[] classes, int[][] adjacency) {
+        int[] methodOffsets = methodOffsets(classes);
+        int methodCount = methodOffsets[classes.length];
+
+        MethodInfo[] methods = new MethodInfo[methodCount];
+        int[] ownerClass = new int[methodCount];
+        for (int classId = 0; classId < classes.length; classId++) {
+            int methodId = methodOffsets[classId];
+            for (MethodInfo method : classes[classId].getMethods()) {
+                methods[methodId] = method;
+                ownerClass[methodId++] = classId;
+            }
+        }
+
+        CompressedRows forward = CompressedRows.of(adjacency, methodCount, true);
+        return new MethodCallGraph(classes, methods, methodOffsets, ownerClass, forward, forward.reverse());
+    }
+
+    public int getMethodCount() {
+        return methods.length;
+    }
+
+    public int getEdgeCount() {
+        return forward.targets.length;
+    }
+
+    public MethodInfo getMethodInfo(int methodId) {
+        return methods[methodId];
+    }
+
+    // 메서드를 선언한 클래스의 ID (DependencyGraph와 같은 번호)
+    public int getOwnerClass(int methodId) {
+        return ownerClass[methodId];
+    }
+
+    public ClassInfo getOwnerClassInfo(int methodId) {
+        return classes[ownerClass[methodId]];
+    }
+
+    // 클래스의 index번째 메서드 ID
+    public int getMethodId(int classId, int index) {
+        return methodOffsets[classId] + index;
+    }
+
+    // com.example.Order.calculate(int, String)
+    public String getSignature(int methodId) {
+        MethodInfo method = methods[methodId];
+        StringBuilder signature = new StringBuilder(getOwnerClassInfo(methodId).getQualifiedName())
+                .append('.').append(method.getMethodName()).append('(');
+        for (int i = 0; i < method.getParameters().size(); i++) {
+            if (i > 0) {
+                signature.append(", ");
+            }
+            signature.append(method.getParameters().get(i).getType());
+        }
+        return signature.append(')').toString();
+    }
+
+    // 이 메서드가 호출하는 메서드 수
+    public int getCalleeCount(int methodId) {
+        return forward.offsets[methodId + 1] - forward.offsets[methodId];
+    }
+
+    // 이 메서드를 호출하는 메서드 수
+    public int getCallerCount(int methodId) {
+        return reverse.offsets[methodId + 1] - reverse.offsets[methodId];
+    }
+
+    public void forEachCallee(int methodId, IntConsumer action) {
+        for (int i = forward.offsets[methodId]; i < forward.offsets[methodId + 1]; i++) {
+            action.accept(forward.targets[i]);
+        }
+    }
+
+    public void forEachCaller(int methodId, IntConsumer action) {
+        for (int i = reverse.offsets[methodId]; i < reverse.offsets[methodId + 1]; i++) {
+            action.accept(reverse.targets[i]);
+        }
+    }
+
+    public int[] getCallees(int methodId) {
+        return Arrays.copyOfRange(forward.targets, forward.offsets[methodId], forward.offsets[methodId + 1]);
+    }
+
+    public int[] getCallers(int methodId) {
+        return Arrays.copyOfRange(reverse.targets, reverse.offsets[methodId], reverse.offsets[methodId + 1]);
+    }
+}
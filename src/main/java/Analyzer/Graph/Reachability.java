@@ -0,0 +1,130 @@
+package Analyzer.Graph;
+
+import java.util.Arrays;
+
+/**
+ * 모든 클래스의 전이 의존 대상 / 전이 의존자 집합.
+ * SCC로 압축한 DAG 위에서 위상 순서대로 한 번씩만 합집합을 계산하고, 결과는 CompactBitSet(클래스 ID 집합)으로 보관한다.
+ * 순환에 속한 클래스는 같은 SCC의 다른 클래스에도 전이적으로 의존한다.
+ */
+public class Reachability {
+    private final StronglyConnectedComponents components;
+    private final int[][] members;                // SCC → 소속 클래스 ID
+    private final CompactBitSet[] descendants;    // SCC → 다른 SCC를 거쳐 도달하는 클래스
+    private final CompactBitSet[] ancestors;      // SCC → 이 SCC에 도달하는 다른 SCC의 클래스
+
+    private Reachability(StronglyConnectedComponents components, int[][] members,
+                         CompactBitSet[] descendants, CompactBitSet[] ancestors) {
+        this.components = components;
+        this.members = members;
+        this.descendants = descendants;
+        this.ancestors = ancestors;
+    }
+
+    public static Reachability compute(DependencyGraph graph) {
+        int nodeCount = graph.getNodeCount();
+        StronglyConnectedComponents components = StronglyConnectedComponents.of(graph);
+        int componentCount = components.getComponentCount();
+
+        int[] forwardOffsets = graph.forwardOffsets();
+        int[] forwardTargets = graph.forwardTargets();
+        int[] reverseOffsets = graph.reverseOffsets();
+        int[] reverseTargets = graph.reverseTargets();
+
+        int[][] members = new int[componentCount][];
+        int[] filled = new int[componentCount];
+        for (int component = 0; component < componentCount; component++) {
+            members[component] = new int[components.getComponentSize(component)];
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            int component = components.getComponent(node);
+            members[component][filled[component]++] = node;
+        }
+
+        // Tarjan은 도달 가능한 SCC를 먼저 확정하므로, SCC 번호 오름차순 = 의존 대상이 먼저 오는 위상 순서
+        CompactBitSet[] descendants = new CompactBitSet[componentCount];
+        int[] lastVisitedBy = new int[componentCount];
+        Arrays.fill(lastVisitedBy, -1);
+        for (int component = 0; component < componentCount; component++) {
+            CompactBitSet closure = new CompactBitSet();
+            for (int member : members[component]) {
+                for (int i = forwardOffsets[member]; i < forwardOffsets[member + 1]; i++) {
+                    int next = components.getComponent(forwardTargets[i]);
+                    if (next != component && lastVisitedBy[next] != component) {
+                        lastVisitedBy[next] = component;
+                        addAll(closure, members[next]);
+                        closure.or(descendants[next]);
+                    }
+                }
+            }
+            descendants[component] = closure;
+        }
+
+        // 역방향은 SCC 번호 내림차순 (의존자가 먼저)
+        CompactBitSet[] ancestors = new CompactBitSet[componentCount];
+        Arrays.fill(lastVisitedBy, -1);
+        for (int component = componentCount - 1; component >= 0; component--) {
+            CompactBitSet closure = new CompactBitSet();
+            for (int member : members[component]) {
+                for (int i = reverseOffsets[member]; i < reverseOffsets[member + 1]; i++) {
+                    int previous = components.getComponent(reverseTargets[i]);
+                    if (previous != component && lastVisitedBy[previous] != component) {
+                        lastVisitedBy[previous] = component;
+                        addAll(closure, members[previous]);
+                        closure.or(ancestors[previous]);
+                    }
+                }
+            }
+            ancestors[component] = closure;
+        }
+
+        return new Reachability(components, members, descendants, ancestors);
+    }
+
+    private static void addAll(CompactBitSet set, int[] values) {
+        for (int value : values) {
+            set.add(value);
+        }
+    }
+
+    // id 클래스가 직접/간접으로 의존하는 클래스 수 (자기 자신 제외)
+    public int getTransitiveDependencyCount(int id) {
+        int component = components.getComponent(id);
+        return descendants[component].cardinality() + members[component].length - 1;
+    }
+
+    // id 클래스에 직접/간접으로 의존하는 클래스 수 (자기 자신 제외)
+    public int getTransitiveDependentCount(int id) {
+        int component = components.getComponent(id);
+        return ancestors[component].cardinality() + members[component].length - 1;
+    }
+
+    public CompactBitSet getTransitiveDependencies(int id) {
+        return withPeers(descendants, id);
+    }
+
+    public CompactBitSet getTransitiveDependents(int id) {
+        return withPeers(ancestors, id);
+    }
+
+    // from 클래스가 to 클래스에 전이적으로 의존하는지
+    public boolean dependsOn(int from, int to) {
+        int fromComponent = components.getComponent(from);
+        if (fromComponent == components.getComponent(to)) {
+            return from != to || components.isCyclic(from);
+        }
+        return descendants[fromComponent].contains(to);
+    }
+
+    // 같은 SCC의 다른 클래스도 포함 (순환 안에서는 서로 도달 가능)
+    private CompactBitSet withPeers(CompactBitSet[] closures, int id) {
+        int component = components.getComponent(id);
+        CompactBitSet result = closures[component].copy();
+        for (int member : members[component]) {
+            if (member != id) {
+                result.add(member);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,140 @@
+package Analyzer.Graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tarjan 강한 연결 요소 (SCC). 재귀 대신 배열로 만든 호출 스택을 사용하므로
+ * 노드 수가 많아도 스택 오버플로가 없고, 노드/간선 수에 선형 시간이다.
+ * 입력은 CSR 배열 (offsets[node] ~ offsets[node + 1] 구간이 node의 이웃).
+ */
+public class StronglyConnectedComponents {
+    private static final int UNVISITED = -1;
+
+    private final int[] componentOf;
+    private final int componentCount;
+    private final int[] componentSizes;
+    private final boolean[] selfLoop;
+
+    private StronglyConnectedComponents(int[] componentOf, int componentCount, boolean[] selfLoop) {
+        this.componentOf = componentOf;
+        this.componentCount = componentCount;
+        this.selfLoop = selfLoop;
+        this.componentSizes = new int[componentCount];
+        for (int component : componentOf) {
+            componentSizes[component]++;
+        }
+    }
+
+    public static StronglyConnectedComponents of(DependencyGraph graph) {
+        return compute(graph.getNodeCount(), graph.forwardOffsets(), graph.forwardTargets());
+    }
+
+    public static StronglyConnectedComponents compute(int nodeCount, int[] offsets, int[] targets) {
+        int[] index = new int[nodeCount];
+        int[] lowLink = new int[nodeCount];
+        boolean[] onStack = new boolean[nodeCount];
+        boolean[] selfLoop = new boolean[nodeCount];
+        int[] componentOf = new int[nodeCount];
+
+        int[] stack = new int[nodeCount];      // Tarjan 스택 (아직 SCC가 정해지지 않은 노드)
+        int[] callStack = new int[nodeCount];  // 재귀 호출 대신 쓰는 DFS 경로
+        int[] edgeCursor = new int[nodeCount]; // 노드별로 다음에 볼 간선 위치
+        Arrays.fill(index, UNVISITED);
+
+        int nextIndex = 0;
+        int stackSize = 0;
+        int componentCount = 0;
+
+        for (int root = 0; root < nodeCount; root++) {
+            if (index[root] != UNVISITED) {
+                continue;
+            }
+
+            int depth = 0;
+            callStack[depth++] = root;
+            index[root] = lowLink[root] = nextIndex++;
+            edgeCursor[root] = offsets[root];
+            stack[stackSize++] = root;
+            onStack[root] = true;
+
+            while (depth > 0) {
+                int node = callStack[depth - 1];
+
+                if (edgeCursor[node] < offsets[node + 1]) {
+                    int next = targets[edgeCursor[node]++];
+                    if (next == node) {
+                        selfLoop[node] = true;
+                    } else if (index[next] == UNVISITED) {
+                        // 자식 노드로 내려감
+                        callStack[depth++] = next;
+                        index[next] = lowLink[next] = nextIndex++;
+                        edgeCursor[next] = offsets[next];
+                        stack[stackSize++] = next;
+                        onStack[next] = true;
+                    } else if (onStack[next]) {
+                        lowLink[node] = Math.min(lowLink[node], index[next]);
+                    }
+                    continue;
+                }
+
+                // 모든 간선을 봤으면 부모로 돌아감
+                depth--;
+                if (lowLink[node] == index[node]) {
+                    int member;
+                    do {
+                        member = stack[--stackSize];
+                        onStack[member] = false;
+                        componentOf[member] = componentCount;
+                    } while (member != node);
+                    componentCount++;
+                }
+                if (depth > 0) {
+                    int parent = callStack[depth - 1];
+                    lowLink[parent] = Math.min(lowLink[parent], lowLink[node]);
+                }
+            }
+        }
+
+        return new StronglyConnectedComponents(componentOf, componentCount, selfLoop);
+    }
+
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    public int getComponent(int node) {
+        return componentOf[node];
+    }
+
+    public int getComponentSize(int component) {
+        return componentSizes[component];
+    }
+
+    // 노드가 순환에 속하는지: 2개 이상이 묶인 SCC 또는 자기 자신으로의 간선
+    public boolean isCyclic(int node) {
+        return componentSizes[componentOf[node]] > 1 || selfLoop[node];
+    }
+
+    // 순환을 이루는 SCC의 노드 목록 (노드 ID 오름차순, 가장 작은 ID 순으로 정렬)
+    public List<int[]> getCycles() {
+        int[] cycleSlot = new int[componentCount];
+        Arrays.fill(cycleSlot, UNVISITED);
+
+        List<int[]> cycles = new ArrayList<>();
+        int[] filled = new int[componentCount];
+        for (int node = 0; node < componentOf.length; node++) {
+            int component = componentOf[node];
+            if (!isCyclic(node)) {
+                continue;
+            }
+            if (cycleSlot[component] == UNVISITED) {
+                cycleSlot[component] = cycles.size();
+                cycles.add(new int[componentSizes[component]]);
+            }
+            cycles.get(cycleSlot[component])[filled[component]++] = node;
+        }
+        return cycles;
+    }
+}
@@ -0,0 +1,130 @@
+package Analyzer;
+
+import Analyzer.Graph.DependencyGraph;
+import SourceParser.Model.ClassInfo;
+
+import java.io.File;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 변경된 파일 → 영향받는 클래스 집합.
+ * 변경된 파일의 클래스에서 역방향 의존성 간선을 따라가며 직접/간접으로 의존하는 클래스를 모은다.
+ * 분석 결과에 없는 .java 파일(삭제, 파싱 실패)은 파일명과 같은 클래스명에 의존하는 클래스를 시작점으로 삼는다.
+ */
+public class ImpactReport {
+    private final List<ClassInfo> changedClasses;
+    private final List<ClassInfo> affectedClasses;
+    private final List<String> unmatchedFiles;
+
+    private ImpactReport(List<ClassInfo> changedClasses, List<ClassInfo> affectedClasses, List<String> unmatchedFiles) {
+        this.changedClasses = changedClasses;
+        this.affectedClasses = affectedClasses;
+        this.unmatchedFiles = unmatchedFiles;
+    }
+
+    // changedFiles는 절대 경로, .java가 아닌 파일은 무시
+    public static ImpactReport analyze(DependencyGraph graph, Collection<String> changedFiles) {
+        Set<String> pendingFiles = new HashSet<>();
+        Set<String> pendingFileNames = new HashSet<>();
+        for (String file : changedFiles) {
+            if (file.endsWith(".java")) {
+                pendingFiles.add(normalize(file));
+                pendingFileNames.add(fileNameOf(file));
+            }
+        }
+
+        int nodeCount = graph.getNodeCount();
+        boolean[] visited = new boolean[nodeCount];
+        int[] queue = new int[nodeCount];
+        int queueSize = 0;
+
+        // 1. 변경된 파일의 클래스 (파일명이 같은 경우에만 경로를 정규화해 비교)
+        List<ClassInfo> changedClasses = new ArrayList<>();
+        Set<String> matchedFiles = new HashSet<>();
+        for (int id = 0; id < nodeCount; id++) {
+            String filePath = graph.getClassInfo(id).getFilePath();
+            if (filePath == null || !pendingFileNames.contains(fileNameOf(filePath))) {
+                continue;
+            }
+            String normalized = normalize(filePath);
+            if (pendingFiles.contains(normalized)) {
+                matchedFiles.add(normalized);
+                changedClasses.add(graph.getClassInfo(id));
+                visited[id] = true;
+                queue[queueSize++] = id;
+            }
+        }
+
+        // 2. 분석 결과에 없는 파일: 그 클래스명에 의존하는 클래스부터 시작
+        List<String> unmatchedFiles = new ArrayList<>();
+        for (String file : pendingFiles) {
+            if (matchedFiles.contains(file)) {
+                continue;
+            }
+            unmatchedFiles.add(file);
+
+            String fileName = fileNameOf(file);
+            String className = fileName.substring(0, fileName.length() - ".java".length());
+            for (int id = 0; id < nodeCount; id++) {
+                if (!visited[id] && graph.getClassInfo(id).getDependencies().contains(className)) {
+                    visited[id] = true;
+                    queue[queueSize++] = id;
+                }
+            }
+        }
+
+        // 3. 역방향 간선 BFS
+        for (int head = 0; head < queueSize; head++) {
+            int id = queue[head];
+            for (int i = 0; i < graph.getFanIn(id); i++) {
+                int dependent = graph.getPredecessor(id, i);
+                if (!visited[dependent]) {
+                    visited[dependent] = true;
+                    queue[queueSize++] = dependent;
+                }
+            }
+        }
+
+        List<ClassInfo> affectedClasses = new ArrayList<>(queueSize);
+        for (int i = 0; i < queueSize; i++) {
+            affectedClasses.add(graph.getClassInfo(queue[i]));
+        }
+        Comparator<ClassInfo> byName = Comparator.comparing(ClassInfo::getQualifiedName);
+        changedClasses.sort(byName);
+        affectedClasses.sort(byName);
+        Collections.sort(unmatchedFiles);
+
+        return new ImpactReport(Collections.unmodifiableList(changedClasses),
+                Collections.unmodifiableList(affectedClasses), Collections.unmodifiableList(unmatchedFiles));
+    }
+
+    private static String fileNameOf(String file) {
+        return file.substring(Math.max(file.lastIndexOf('/'), file.lastIndexOf(File.separatorChar)) + 1);
+    }
+
+    private static String normalize(String file) {
+        return Paths.get(file).toAbsolutePath().normalize().toString();
+    }
+
+    // 변경된 파일에 선언된 클래스
+    public List<ClassInfo> getChangedClasses() {
+        return changedClasses;
+    }
+
+    // 변경된 클래스와 그 클래스에 직접/간접으로 의존하는 클래스 (FQN 순)
+    public List<ClassInfo> getAffectedClasses() {
+        return affectedClasses;
+    }
+
+    // 분석된 클래스가 없는 .java 파일 (삭제되었거나 파싱에 실패한 파일)
+    public List<String> getUnmatchedFiles() {
+        return unmatchedFiles;
+    }
+}
@@ -0,0 +1,115 @@
+package Analyzer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 한 클래스의 import 목록을 미리 색인한 것.
+ * 단순 이름 → FQN, 와일드카드 패키지, static 멤버 → 소유 클래스 FQN.
+ */
+public class ImportIndex {
+    private static final String STATIC_PREFIX = "static ";
+    private static final String WILDCARD_SUFFIX = ".*";
+
+    private final Map<String, String> qualifiedNames;          // UserRepository -> com.example.UserRepository
+    private final Map<String, String> simpleNamesIgnoringCase; // userrepository -> UserRepository
+    private final List<String> wildcardPackages;                // com.example.model
+    private final Map<String, String> staticMembers;           // assertEquals -> org.junit.Assert
+    private final List<String> staticWildcardOwners;           // org.junit.Assert (import static ...Assert.*)
+    private final Map<String, String> staticOwners;            // Assert -> org.junit.Assert
+
+    private ImportIndex() {
+        this.qualifiedNames = new HashMap<>();
+        this.simpleNamesIgnoringCase = new HashMap<>();
+        this.wildcardPackages = new ArrayList<>();
+        this.staticMembers = new HashMap<>();
+        this.staticWildcardOwners = new ArrayList<>();
+        this.staticOwners = new HashMap<>();
+    }
+
+    public static ImportIndex of(Collection<String> imports) {
+        ImportIndex index = new ImportIndex();
+        for (String importStatement : imports) {
+            index.add(importStatement);
+        }
+        return index;
+    }
+
+    private void add(String importStatement) {
+        boolean isStatic = importStatement.startsWith(STATIC_PREFIX);
+        String name = isStatic ? importStatement.substring(STATIC_PREFIX.length()) : importStatement;
+
+        if (name.endsWith(WILDCARD_SUFFIX)) {
+            String owner = name.substring(0, name.length() - WILDCARD_SUFFIX.length());
+            if (isStatic) {
+                staticWildcardOwners.add(owner);
+                addStaticOwner(owner);
+            } else {
+                wildcardPackages.add(owner);
+            }
+            return;
+        }
+
+        int lastDot = name.lastIndexOf('.');
+        String simpleName = name.substring(lastDot + 1);
+        if (isStatic) {
+            if (lastDot > 0) {
+                String owner = name.substring(0, lastDot);
+                staticMembers.put(simpleName, owner);
+                addStaticOwner(owner);
+            }
+            return;
+        }
+
+        qualifiedNames.put(simpleName, name);
+        simpleNamesIgnoringCase.put(simpleName.toLowerCase(Locale.ROOT), simpleName);
+    }
+
+    private void addStaticOwner(String owner) {
+        staticOwners.put(owner.substring(owner.lastIndexOf('.') + 1), owner);
+    }
+
+    // userRepository → UserRepository (변수명처럼 대소문자가 달라도 매칭), 없으면 null
+    public String findSimpleName(String name) {
+        if (qualifiedNames.containsKey(name)) {
+            return name;
+        }
+        return simpleNamesIgnoringCase.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    // 이 클래스를 가리킬 수 있는 import가 있는지 (단일 import, 와일드카드 패키지, static import 소유 클래스)
+    public boolean refersTo(String qualifiedName, String packageName) {
+        String simpleName = qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+        return qualifiedName.equals(qualifiedNames.get(simpleName))
+                || qualifiedName.equals(staticOwners.get(simpleName))
+                || staticWildcardOwners.contains(qualifiedName)
+                || (packageName != null && wildcardPackages.contains(packageName));
+    }
+
+    public String getQualifiedName(String simpleName) {
+        return qualifiedNames.get(simpleName);
+    }
+
+    // static import 의 소유 클래스 (Assert → org.junit.Assert), 없으면 null
+    public String getStaticOwnerQualifiedName(String simpleName) {
+        return staticOwners.get(simpleName);
+    }
+
+    public List<String> getWildcardPackages() {
+        return Collections.unmodifiableList(wildcardPackages);
+    }
+
+    // static import 된 멤버의 소유 클래스 FQN, 없으면 null
+    public String getStaticMemberOwner(String memberName) {
+        return staticMembers.get(memberName);
+    }
+
+    public List<String> getStaticWildcardOwners() {
+        return Collections.unmodifiableList(staticWildcardOwners);
+    }
+}
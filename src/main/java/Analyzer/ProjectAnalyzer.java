@@ -13,77 +13,166 @@ import java.util.List;
 public class ProjectAnalyzer {
     private final FileAnalyzer fileAnalyzer;
     private final boolean showProgress;
+    private final int threadCount;
     private final List<ParseResult> parseResults;
+    private AnalysisCache cache;
+    private boolean signaturesOnly;
 
     public ProjectAnalyzer() {
         this(true);
     }
 
     public ProjectAnalyzer(boolean showProgress) {
+        this(showProgress, Runtime.getRuntime().availableProcessors());
+    }
+
+    public ProjectAnalyzer(boolean showProgress, int threadCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1: " + threadCount);
+        }
         this.fileAnalyzer = new FileAnalyzer();
         this.showProgress = showProgress;
+        this.threadCount = threadCount;
         this.parseResults = new ArrayList<>();
     }
 
+    // null이면 캐시 없이 모든 파일을 파싱
+    public void setCache(AnalysisCache cache) {
+        this.cache = cache;
+    }
+
+    // 메서드 호출 추적 없이 클래스 구조와 메서드 시그니처만 분석
+    public void setSignaturesOnly(boolean signaturesOnly) {
+        this.signaturesOnly = signaturesOnly;
+    }
+
     public List<ClassInfo> analyzeProject() {
-        List<FileNode> javaFiles = fileAnalyzer.getAllJavaFiles();
-        List<ClassInfo> classes = new ArrayList<>();
+        return analyzeProject(System.getProperty("user.dir"));
+    }
+
+    public List<ClassInfo> analyzeProject(String rootPath) {
         parseResults.clear();
 
+        if (threadCount > 1) {
+            return analyzePipelined(rootPath);
+        }
+        return analyzeSequentially(fileAnalyzer.getAllJavaFiles(rootPath));
+    }
+
+    private List<ClassInfo> analyzeSequentially(List<FileNode> javaFiles) {
+        List<ClassInfo> classes = new ArrayList<>();
+
+        ProgressBar progressBar = null;
         if (showProgress && !javaFiles.isEmpty()) {
-            ProgressBar progressBar = new ProgressBar(javaFiles.size());
-
-            for (int i = 0; i < javaFiles.size(); i++) {
-                FileNode file = javaFiles.get(i);
-                try {
-                    ClassInfo classInfo = parseFile(file);
-                    classes.add(classInfo);
-                    parseResults.add(new ParseResult(
-                            file.getName(),
-                            file.getPath(),
-                            true
-                    ));
-                } catch (Exception e) {
-                    parseResults.add(new ParseResult(
-                            file.getName(),
-                            file.getPath(),
-                            e.getMessage(),
-                            e
-                    ));
+            progressBar = new ProgressBar(javaFiles.size());
+        }
+
+        for (int i = 0; i < javaFiles.size(); i++) {
+            FileNode file = javaFiles.get(i);
+            try {
+                ClassInfo classInfo = cache != null ? cache.lookup(file) : null;
+                if (classInfo == null) {
+                    classInfo = parseFile(file, file.readContent());
                 }
+                classes.add(classInfo);
+                parseResults.add(new ParseResult(
+                        file.getName(),
+                        file.getPath(),
+                        true
+                ));
+            } catch (Exception e) {
+                parseResults.add(new ParseResult(
+                        file.getName(),
+                        file.getPath(),
+                        e.getMessage(),
+                        e
+                ));
+            }
+            if (progressBar != null) {
                 progressBar.update(i + 1);
             }
+        }
 
+        if (progressBar != null) {
             progressBar.finish();
-        } else {
-            for (FileNode file : javaFiles) {
-                try {
-                    ClassInfo classInfo = parseFile(file);
-                    classes.add(classInfo);
-                    parseResults.add(new ParseResult(
-                            file.getName(),
-                            file.getPath(),
-                            true
-                    ));
-                } catch (Exception e) {
-                    parseResults.add(new ParseResult(
-                            file.getName(),
-                            file.getPath(),
-                            e.getMessage(),
-                            e
-                    ));
-                }
+        }
+
+        return classes;
+    }
+
+    // 순회/읽기/파싱을 겹쳐서 실행, 결과는 파일 순서대로 모음
+    private List<ClassInfo> analyzePipelined(String rootPath) {
+        AnalysisPipeline pipeline = new AnalysisPipeline(fileAnalyzer, threadCount);
+        ProgressBar progressBar = showProgress ? new ProgressBar(0) : null;
+
+        AnalysisPipeline.FileParser fileParser = new AnalysisPipeline.FileParser() {
+            @Override
+            public ClassInfo parse(FileNode file, String content) {
+                return parseFile(file, content);
+            }
+
+            @Override
+            public ClassInfo parseWithoutReading(FileNode file) {
+                return cache != null ? cache.lookup(file) : null;
+            }
+        };
+
+        List<AnalysisPipeline.Outcome> outcomes = pipeline.run(rootPath, fileParser,
+                (completed, discovered) -> {
+                    if (progressBar != null) {
+                        progressBar.setTotal(discovered);
+                        progressBar.update(completed);
+                    }
+                });
+
+        if (progressBar != null && !outcomes.isEmpty()) {
+            progressBar.finish();
+        }
+
+        List<ClassInfo> classes = new ArrayList<>();
+        for (AnalysisPipeline.Outcome outcome : outcomes) {
+            FileNode file = outcome.getFile();
+            if (outcome.isSuccess()) {
+                classes.add(outcome.getClassInfo());
+                parseResults.add(new ParseResult(
+                        file.getName(),
+                        file.getPath(),
+                        true
+                ));
+            } else {
+                parseResults.add(new ParseResult(
+                        file.getName(),
+                        file.getPath(),
+                        outcome.getError().getMessage(),
+                        outcome.getError()
+                ));
             }
         }
 
         return classes;
     }
 
-    private ClassInfo parseFile(FileNode file) throws Exception {
-        String content = file.readContent();
-        Lexer lexer = new Lexer(content);
-        Parser parser = new Parser(lexer);
-        return parser.getClassInfo();
+    private ClassInfo parseFile(FileNode file, String content) {
+        if (cache != null) {
+            ClassInfo cached = cache.lookup(file, content);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Lexer lexer = new Lexer(content, signaturesOnly);
+        Parser parser = new Parser(lexer, signaturesOnly);
+        ClassInfo classInfo = parser.getClassInfo();
+        classInfo.setFilePath(file.getPath());
+
+        if (cache != null) {
+            cache.store(file, content, classInfo);
+        }
+        return classInfo;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
     }
 
     public List<ParseResult> getParseResults() {
@@ -103,4 +192,4 @@ public class ProjectAnalyzer {
                 .filter(r -> !r.isSuccess())
                 .toList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,113 @@
+package Analyzer;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * (패키지, import 색인, 호출 대상 이름) → 해결된 클래스명 캐시.
+ * 패키지와 import 목록이 같은 클래스들은 같은 ImportIndex 인스턴스를 공유하므로
+ * userRepository, log 같은 이름을 한 번만 해결한다. 여러 스레드에서 동시에 사용할 수 있다.
+ * 크기 제한은 추가만 막는다 (제거 없음): 가득 찬 뒤 새 이름은 계속 miss이고 거부된 저장 수로 집계한다.
+ */
+public class ResolutionCache {
+    public static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+    private final ConcurrentHashMap<Key, String> entries;
+    private final int maxEntries;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder rejected;  // 가득 차서 저장하지 못한 수
+
+    private static final class Key {
+        private final String packageName;
+        private final ImportIndex importIndex;  // 같은 import 목록이면 같은 인스턴스 (identity 비교)
+        private final String target;
+        private final int hash;
+
+        private Key(String packageName, ImportIndex importIndex, String target) {
+            this.packageName = packageName;
+            this.importIndex = importIndex;
+            this.target = target;
+            this.hash = 31 * (31 * Objects.hashCode(packageName) + System.identityHashCode(importIndex))
+                    + target.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return importIndex == other.importIndex
+                    && target.equals(other.target)
+                    && Objects.equals(packageName, other.packageName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    public ResolutionCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public ResolutionCache(int maxEntries) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative: " + maxEntries);
+        }
+        this.entries = new ConcurrentHashMap<>();
+        this.maxEntries = maxEntries;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.rejected = new LongAdder();
+    }
+
+    // 없으면 null (miss로 집계)
+    public String get(String packageName, ImportIndex importIndex, String target) {
+        String resolved = entries.get(new Key(packageName, importIndex, target));
+        if (resolved != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return resolved;
+    }
+
+    // 가득 차면 더 이상 저장하지 않음 (이미 저장된 항목은 계속 사용)
+    public void put(String packageName, ImportIndex importIndex, String target, String resolved) {
+        if (entries.mappingCount() < maxEntries) {
+            entries.putIfAbsent(new Key(packageName, importIndex, target), resolved);
+        } else {
+            rejected.increment();
+        }
+    }
+
+    // 항목만 비움 (적중/실패 수는 유지)
+    public void clear() {
+        entries.clear();
+    }
+
+    public void resetStats() {
+        hits.reset();
+        misses.reset();
+        rejected.reset();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    // 0보다 크면 캐시가 가득 찼음 (크기 제한을 늘리면 miss가 줄어듦)
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,71 @@
+package Analyzer;
+
+import SourceParser.Model.ClassInfo;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 분석된 클래스 색인. 패키지 → 단순 이름 → ClassInfo, 그리고 FQN → ClassInfo.
+ * 단순 이름이 같아도 패키지가 다르면 서로 덮어쓰지 않는다.
+ */
+public class SymbolTable {
+    // 패키지 선언이 없는 클래스의 패키지 키
+    private static final String DEFAULT_PACKAGE = "";
+
+    private final Map<String, Map<String, ClassInfo>> classesByPackage;
+    private final Map<String, ClassInfo> classesByQualifiedName;
+
+    public SymbolTable() {
+        this.classesByPackage = new HashMap<>();
+        this.classesByQualifiedName = new HashMap<>();
+    }
+
+    public SymbolTable(List<ClassInfo> classes) {
+        this();
+        classes.forEach(this::add);
+    }
+
+    public void add(ClassInfo classInfo) {
+        classesByPackage
+                .computeIfAbsent(packageKey(classInfo.getPackageName()), key -> new HashMap<>())
+                .put(classInfo.getClassName(), classInfo);
+        classesByQualifiedName.put(classInfo.getQualifiedName(), classInfo);
+    }
+
+    // 이 ClassInfo가 등록되어 있을 때만 제거 (같은 이름의 다른 클래스는 그대로 둠)
+    public void remove(ClassInfo classInfo) {
+        String packageKey = packageKey(classInfo.getPackageName());
+        Map<String, ClassInfo> classes = classesByPackage.get(packageKey);
+        if (classes != null && classes.get(classInfo.getClassName()) == classInfo) {
+            classes.remove(classInfo.getClassName());
+            if (classes.isEmpty()) {
+                classesByPackage.remove(packageKey);
+            }
+        }
+        classesByQualifiedName.remove(classInfo.getQualifiedName(), classInfo);
+    }
+
+    // 같은 패키지에서 단순 이름으로 찾기, 없으면 null
+    public ClassInfo find(String packageName, String simpleName) {
+        Map<String, ClassInfo> classes = classesByPackage.get(packageKey(packageName));
+        return classes != null ? classes.get(simpleName) : null;
+    }
+
+    public ClassInfo findByQualifiedName(String qualifiedName) {
+        return classesByQualifiedName.get(qualifiedName);
+    }
+
+    public boolean containsPackage(String packageName) {
+        return classesByPackage.containsKey(packageKey(packageName));
+    }
+
+    public int size() {
+        return classesByQualifiedName.size();
+    }
+
+    private static String packageKey(String packageName) {
+        return packageName != null ? packageName : DEFAULT_PACKAGE;
+    }
+}
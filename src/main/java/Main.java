@@ -1,6 +1,13 @@
+import Analyzer.AnalysisCache;
 import Analyzer.DependencyResolver;
+import Analyzer.GitChanges;
+import Analyzer.Graph.DependencyGraph;
+import Analyzer.Graph.CycleReport;
+import Analyzer.Graph.Reachability;
+import Analyzer.ImpactReport;
 import Analyzer.ParseResult;
 import Analyzer.ProjectAnalyzer;
+import Analyzer.ResolutionCache;
 import SourceParser.Model.ClassInfo;
 import Serializer.JsonSerializer;
 
@@ -9,6 +16,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 
 public class Main {
@@ -35,12 +43,156 @@ public class Main {
                 break;
 
             default:
-                analyzeProject(command);
+                analyzeProject(parseOptions(args));
                 break;
         }
     }
 
-    private static void analyzeProject(String path) {
+    private static class Options {
+        String path;
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        boolean useCache = true;
+        boolean signaturesOnly = false;
+        boolean transitive = false;
+        boolean compact = false;                       // 공백 없는 JSON
+        boolean gzip = false;                          // .json.gz로 압축 출력
+        JsonSerializer.Format format = JsonSerializer.Format.JSON;
+        List<String> impactFiles = new ArrayList<>();  // --impact (프로젝트 기준 상대 경로 또는 절대 경로)
+        String impactSince;                            // --impact-since <git ref>
+
+        boolean isImpactMode() {
+            return !impactFiles.isEmpty() || impactSince != null;
+        }
+    }
+
+    private static Options parseOptions(String[] args) {
+        Options options = new Options();
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+
+            switch (arg) {
+                case "-t":
+                case "--threads":
+                    if (i + 1 >= args.length) {
+                        exitWithUsageError("Missing value for " + arg);
+                    }
+                    options.threadCount = parseThreadCount(args[++i]);
+                    break;
+
+                case "--no-cache":
+                    options.useCache = false;
+                    break;
+
+                case "--signatures-only":
+                    options.signaturesOnly = true;
+                    break;
+
+                case "--transitive":
+                    options.transitive = true;
+                    break;
+
+                case "--compact":
+                    options.compact = true;
+                    break;
+
+                case "--gzip":
+                    options.gzip = true;
+                    break;
+
+                case "--format":
+                    if (i + 1 >= args.length) {
+                        exitWithUsageError("Missing value for " + arg);
+                    }
+                    options.format = parseFormat(args[++i]);
+                    break;
+
+                case "--impact":
+                    if (i + 1 >= args.length) {
+                        exitWithUsageError("Missing value for " + arg);
+                    }
+                    for (String file : args[++i].split(",")) {
+                        if (!file.isBlank()) {
+                            options.impactFiles.add(file.trim());
+                        }
+                    }
+                    break;
+
+                case "--impact-since":
+                    if (i + 1 >= args.length) {
+                        exitWithUsageError("Missing value for " + arg);
+                    }
+                    options.impactSince = args[++i];
+                    break;
+
+                default:
+                    if (arg.startsWith("-")) {
+                        exitWithUsageError("Unknown option: " + arg);
+                    }
+                    if (options.path != null) {
+                        exitWithUsageError("Only one project path can be given: " + arg);
+                    }
+                    options.path = arg;
+                    break;
+            }
+        }
+
+        if (options.path == null) {
+            exitWithUsageError("Missing project path");
+        }
+
+        return options;
+    }
+
+    private static int parseThreadCount(String value) {
+        try {
+            int threadCount = Integer.parseInt(value);
+            if (threadCount >= 1) {
+                return threadCount;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        exitWithUsageError("Thread count must be a positive integer: " + value);
+        return 1;
+    }
+
+    private static JsonSerializer.Format parseFormat(String value) {
+        switch (value) {
+            case "json":
+                return JsonSerializer.Format.JSON;
+            case "ndjson":
+                return JsonSerializer.Format.NDJSON;
+            default:
+                exitWithUsageError("Output format must be json or ndjson: " + value);
+                return JsonSerializer.Format.JSON;
+        }
+    }
+
+    // 순환마다 한 줄, 최대 5개
+    private static void printCycles(String kind, List<List<String>> cycles) {
+        int displayCount = Math.min(5, cycles.size());
+        for (int i = 0; i < displayCount; i++) {
+            List<String> cycle = cycles.get(i);
+            String members = cycle.size() > 5
+                    ? String.join(", ", cycle.subList(0, 5)) + ", ..."
+                    : String.join(", ", cycle);
+            System.out.println("   • " + kind + " (" + cycle.size() + "): " + members);
+        }
+
+        if (cycles.size() > 5) {
+            System.out.println("   ... and " + (cycles.size() - 5) + " more " + kind + " cycle(s)");
+        }
+    }
+
+    private static void exitWithUsageError(String message) {
+        System.err.println("✗ Error: " + message);
+        System.err.println();
+        printUsage();
+        System.exit(1);
+    }
+
+    private static void analyzeProject(Options options) {
+        String path = options.path;
         long startTime = System.currentTimeMillis();
 
         try {
@@ -65,9 +217,22 @@ public class Main {
             System.out.println();
 
             System.out.print("🔍 Parsing files... ");
-            ProjectAnalyzer projectAnalyzer = new ProjectAnalyzer(true);
+            ProjectAnalyzer projectAnalyzer = new ProjectAnalyzer(true, options.threadCount);
+            AnalysisCache cache = options.useCache
+                    ? AnalysisCache.load(projectDir.getAbsolutePath(), options.signaturesOnly)
+                    : null;
+            projectAnalyzer.setCache(cache);
+            projectAnalyzer.setSignaturesOnly(options.signaturesOnly);
             List<ClassInfo> classes = projectAnalyzer.analyzeProject();
 
+            if (cache != null) {
+                try {
+                    cache.save();
+                } catch (IOException e) {
+                    System.err.println("⚠️  Could not write analysis cache: " + e.getMessage());
+                }
+            }
+
             int successCount = projectAnalyzer.getSuccessCount();
             int failureCount = projectAnalyzer.getFailureCount();
             int totalCount = successCount + failureCount;
@@ -79,8 +244,23 @@ public class Main {
 
             System.out.print("🔗 Resolving dependencies... ");
             DependencyResolver resolver = new DependencyResolver();
+            resolver.setThreadCount(options.threadCount);
+            // 영향 분석은 클래스 의존성만 사용하므로 메서드 호출 그래프는 만들지 않음
+            resolver.setMethodCallGraphEnabled(!options.isImpactMode());
             resolver.resolveDependencies(classes);
 
+            if (options.isImpactMode()) {
+                System.out.println("✓");
+                System.setProperty("user.dir", originalDir);
+                printImpact(projectDir, options, resolver.getDependencyGraph(), startTime);
+                return;
+            }
+
+            CycleReport cycleReport = CycleReport.detect(resolver.getDependencyGraph());
+            Reachability reachability = options.transitive
+                    ? Reachability.compute(resolver.getDependencyGraph())
+                    : null;
+
             int totalDeps = classes.stream()
                     .mapToInt(c -> c.getDependencies().size())
                     .sum();
@@ -88,15 +268,22 @@ public class Main {
 
             System.out.print("📝 Generating JSON... ");
             JsonSerializer serializer = new JsonSerializer();
-            String json = serializer.serialize(classes);
-
-            System.setProperty("user.dir", originalDir);
+            serializer.setCycleReport(cycleReport);
+            serializer.setReachability(reachability);
+            serializer.setCallGraph(resolver.getMethodCallGraph());
+            serializer.setThreadCount(options.threadCount);
+            serializer.setCompact(options.compact);
+            serializer.setGzip(options.gzip);
+            serializer.setFormat(options.format);
 
             String timestamp = LocalDateTime.now()
                     .format(DateTimeFormatter.ofPattern("yyyy-MM-dd-HHmmss"));
-            String outputFileName = projectName + "-" + timestamp + ".json";
+            String extension = options.format == JsonSerializer.Format.NDJSON ? ".ndjson" : ".json";
+            String outputFileName = projectName + "-" + timestamp + extension + (options.gzip ? ".gz" : "");
 
-            serializer.saveToFile(json, outputFileName);
+            // projectName 필드가 user.dir을 읽으므로 복원 전에 출력
+            serializer.writeToFile(classes, outputFileName);
+            System.setProperty("user.dir", originalDir);
             System.out.println("✓");
 
             if (failureCount > 0) {
@@ -124,10 +311,29 @@ public class Main {
                     .sum();
             System.out.println("   Methods:         " + totalMethods);
             System.out.println("   Dependencies:    " + totalDeps);
+            System.out.println("   Method calls:    " + resolver.getMethodCallGraph().getEdgeCount() + " resolved");
+            System.out.println("   Cycles:          " + cycleReport.getClassCycles().size() + " class / "
+                    + cycleReport.getPackageCycles().size() + " package");
+            System.out.println("   Threads:         " + projectAnalyzer.getThreadCount());
+            if (cache != null) {
+                System.out.println("   Cache hits:      " + cache.getHitCount() + "/" + totalCount);
+            }
+            ResolutionCache resolutionCache = resolver.getResolutionCache();
+            System.out.println("   Resolve cache:   " + resolutionCache.getHitCount() + " hits / "
+                    + resolutionCache.getMissCount() + " misses"
+                    + (resolutionCache.getRejectedCount() > 0
+                            ? " / " + resolutionCache.getRejectedCount() + " rejected (cache full)" : ""));
             System.out.println("   Time:            " + duration + "s");
             System.out.println();
             System.out.println("📄 Output: " + new File(outputFileName).getAbsolutePath());
 
+            if (cycleReport.hasCycles()) {
+                System.out.println();
+                System.out.println("🔁 Dependency cycles:");
+                printCycles("class", cycleReport.getClassCycles());
+                printCycles("package", cycleReport.getPackageCycles());
+            }
+
             if (failureCount > 0) {
                 System.out.println();
                 System.out.println("⚠️  Failed to parse " + failureCount + " file(s):");
@@ -157,6 +363,53 @@ public class Main {
         }
     }
 
+    // --impact / --impact-since: 영향받는 클래스만 출력 (JSON 생성 생략)
+    // startTime: 분석 시작 시각 (파싱 + 의존성 분석을 포함한 전체 시간 출력용)
+    private static void printImpact(File projectDir, Options options, DependencyGraph graph,
+                                    long startTime) throws IOException {
+        List<String> changedFiles = new ArrayList<>(options.impactFiles);
+        if (options.impactSince != null) {
+            changedFiles.addAll(GitChanges.since(projectDir, options.impactSince));
+        }
+
+        List<String> absoluteFiles = new ArrayList<>(changedFiles.size());
+        for (String file : changedFiles) {
+            File changedFile = new File(file);
+            absoluteFiles.add(changedFile.isAbsolute()
+                    ? changedFile.getPath()
+                    : new File(projectDir, file).getAbsolutePath());
+        }
+
+        long queryStart = System.nanoTime();
+        ImpactReport report = ImpactReport.analyze(graph, absoluteFiles);
+        long queryMillis = (System.nanoTime() - queryStart) / 1_000_000;
+
+        System.out.println();
+        System.out.println("🎯 Change impact:");
+        System.out.println("   Changed files:    " + changedFiles.size());
+        System.out.println("   Changed classes:  " + report.getChangedClasses().size());
+        System.out.println("   Affected classes: " + report.getAffectedClasses().size());
+        System.out.println("   Query time:       " + queryMillis + "ms");
+        System.out.println("   Total time:       " + (System.currentTimeMillis() - startTime) + "ms");
+
+        if (!report.getUnmatchedFiles().isEmpty()) {
+            System.out.println();
+            System.out.println("⚠️  No analyzed class for " + report.getUnmatchedFiles().size()
+                    + " file(s) (deleted or failed to parse), using dependents of the file name:");
+            for (String file : report.getUnmatchedFiles()) {
+                System.out.println("   • " + file);
+            }
+        }
+
+        if (!report.getAffectedClasses().isEmpty()) {
+            System.out.println();
+            System.out.println("📋 Affected classes:");
+            for (ClassInfo classInfo : report.getAffectedClasses()) {
+                System.out.println("   " + classInfo.getQualifiedName());
+            }
+        }
+    }
+
     private static void writeLogFile(String logFileName, List<ParseResult> failures) {
         try (FileWriter writer = new FileWriter(logFileName)) {
             writer.write("SourceParser Error Log\n");
@@ -228,12 +481,24 @@ public class Main {
         System.out.println("  sourceparser -h, --help       Show help");
         System.out.println("  sourceparser -v, --version    Show version");
         System.out.println();
+        System.out.println("Options:");
+        System.out.println("  -t, --threads <n>             Parse and resolve with n threads (default: CPU cores)");
+        System.out.println("  --no-cache                    Ignore and do not update the .sourceparser/ parse cache");
+        System.out.println("  --signatures-only             Parse class structure and method signatures only (no calls)");
+        System.out.println("  --transitive                  Add transitive dependency / dependent counts per class");
+        System.out.println("  --compact                     Write JSON without indentation or line breaks");
+        System.out.println("  --gzip                        Write gzip-compressed output (<projectname>-<timestamp>.json.gz)");
+        System.out.println("  --format <json|ndjson>        Output format; ndjson writes one class per line plus a summary line");
+        System.out.println("  --impact <file,...>           Print classes affected by the given files (no JSON output)");
+        System.out.println("  --impact-since <git ref>      Print classes affected by files changed since the git ref");
+        System.out.println();
         System.out.println("Examples:");
         System.out.println("  sourceparser /path/to/project");
         System.out.println("  sourceparser .");
+        System.out.println("  sourceparser --threads 8 /path/to/project");
         System.out.println();
         System.out.println("Output:");
-        System.out.println("  <projectname>-<timestamp>.json    Analysis result");
+        System.out.println("  <projectname>-<timestamp>.json    Analysis result (.ndjson with --format ndjson)");
         System.out.println("  <projectname>-<timestamp>.log     Error log (if any failures)");
     }
 }
\ No newline at end of file
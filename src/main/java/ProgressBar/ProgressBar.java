@@ -1,7 +1,7 @@
 package ProgressBar;
 
 public class ProgressBar {
-    private final int total;
+    private int total;
     private int current;
     private final int barLength;
     private final long startTime;
@@ -22,6 +22,11 @@ public class ProgressBar {
         display();
     }
 
+    // 전체 개수를 미리 알 수 없을 때 (파이프라인 분석) 발견된 만큼 갱신
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
     public void increment() {
         this.current++;
         display();
@@ -34,8 +39,8 @@ public class ProgressBar {
     }
 
     private void display() {
-        int percentage = (int) ((current * 100.0) / total);
-        int filled = (int) ((current * barLength) / total);
+        int percentage = total == 0 ? 0 : (int) ((current * 100.0) / total);
+        int filled = total == 0 ? 0 : (int) (((long) current * barLength) / total);
 
         StringBuilder bar = new StringBuilder();
         bar.append("\r"); // 커서를 줄 처음으로
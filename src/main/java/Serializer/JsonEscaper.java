@@ -0,0 +1,61 @@
+package Serializer;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * JSON 문자열 이스케이프. 문자열을 한 번만 훑으면서 이스케이프가 필요 없는 구간은 그대로 출력한다.
+ * 대부분의 이름/타입은 이스케이프할 문자가 없으므로 새 문자열을 만들지 않는다.
+ */
+public final class JsonEscaper {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private JsonEscaper() {
+    }
+
+    // value를 따옴표 없이 이스케이프해서 출력 (null이면 아무것도 출력하지 않음)
+    public static void escape(String value, Writer out) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        int length = value.length();
+        int start = 0;  // 아직 출력하지 않은 구간의 시작
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+
+            if (i > start) {
+                out.write(value, start, i - start);
+            }
+            writeEscaped(c, out);
+            start = i + 1;
+        }
+
+        if (start == 0) {
+            out.write(value);
+        } else if (start < length) {
+            out.write(value, start, length - start);
+        }
+    }
+
+    private static void writeEscaped(char c, Writer out) throws IOException {
+        switch (c) {
+            case '"' -> out.write("\\\"");
+            case '\\' -> out.write("\\\\");
+            case '\n' -> out.write("\\n");
+            case '\r' -> out.write("\\r");
+            case '\t' -> out.write("\\t");
+            case '\b' -> out.write("\\b");
+            case '\f' -> out.write("\\f");
+            default -> {
+                // 나머지 제어 문자는 유니코드 이스케이프 (역슬래시 + u00 + 16진수 2자리)
+                out.write("\\u00");
+                out.write(HEX_DIGITS[c >>> 4]);
+                out.write(HEX_DIGITS[c & 0xF]);
+            }
+        }
+    }
+}
@@ -1,199 +1,796 @@
 package Serializer;
 
+import Analyzer.Graph.CycleReport;
+import Analyzer.Graph.MethodCallGraph;
+import Analyzer.Graph.Reachability;
 import SourceParser.Model.ClassInfo;
 import SourceParser.Model.MethodCall;
 import SourceParser.Model.MethodInfo;
 import SourceParser.Model.Parameter;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
 
 public class JsonSerializer {
+    private static final int CHUNK_SIZE = 64;  // 파일 출력 시 청크 하나(작업 하나)가 맡는 클래스 수
+    private static final int CALL_GRAPH_CHUNK_SIZE = 1024;  // 호출 그래프 청크 하나가 맡는 메서드 수 (항목이 클래스보다 훨씬 작음)
+    private static final int GZIP_BUFFER_SIZE = 1 << 16;
+    private static final String[] NEWLINE_INDENTS = new String[10];  // 깊이별 "\n" + 들여쓰기
+
+    static {
+        for (int level = 0; level < NEWLINE_INDENTS.length; level++) {
+            NEWLINE_INDENTS[level] = "\n" + "  ".repeat(level);
+        }
+    }
+
+    private CycleReport cycleReport;
+    private Reachability reachability;
+    private MethodCallGraph callGraph;
+    private int threadCount = Runtime.getRuntime().availableProcessors();
+    private boolean compact;  // 공백/줄바꿈 없이 출력
+    private Format format = Format.JSON;
+    private boolean gzip;     // writeToFile 결과를 gzip으로 압축
+
+    public enum Format {
+        JSON,    // { ..., "classes": [...] } 문서 하나
+        // 레코드마다 한 줄: 클래스 ("class"), 순환 ("cycle"), 메서드 호출 ("method"), 마지막 줄은 요약 ("summary")
+        NDJSON
+    }
+
+    // 출력을 순서대로 나눈 조각 하나. 파일 출력 시 조각 하나가 버퍼 하나(작업 하나)가 됨
+    private interface Chunk {
+        void write(Writer out) throws IOException;
+    }
+
+    // 만들어진 청크를 원래 순서대로 받아 기록
+    private interface ChunkSink {
+        void write(List<ChunkBuffer> batch) throws IOException;
+    }
+
+    // 청크 하나를 문자로 모은 뒤 한 번에 UTF-8로 인코딩. reset 후 재사용하므로 배열은 가장 큰 청크 크기까지만 커짐
+    private static final class ChunkBuffer extends Writer {
+        // String.getBytes(UTF_8)와 같이 짝이 없는 서로게이트는 '?'로 대체
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private char[] chars = new char[1 << 16];
+        private int length;
+        private ByteBuffer bytes = ByteBuffer.allocate(1 << 16);
+
+        @Override
+        public void write(String str, int off, int len) {
+            ensureCapacity(len);
+            str.getChars(off, off + len, chars, length);
+            length += len;
+        }
+
+        @Override
+        public void write(String str) {
+            write(str, 0, str.length());
+        }
+
+        @Override
+        public void write(char[] buffer, int off, int len) {
+            ensureCapacity(len);
+            System.arraycopy(buffer, off, chars, length, len);
+            length += len;
+        }
+
+        @Override
+        public void write(int c) {
+            ensureCapacity(1);
+            chars[length++] = (char) c;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(chars.length * 2, length + extra));
+            }
+        }
+
+        // 모은 문자를 UTF-8 바이트로 변환 (대부분 ASCII이므로 문자 수만큼 잡고, 모자라면 키워서 이어서 인코딩)
+        private ChunkBuffer finish() {
+            if (bytes.capacity() < length) {
+                bytes = ByteBuffer.allocate(Math.max(length, bytes.capacity() * 2));
+            }
+            bytes.clear();
+            encoder.reset();
+            CharBuffer input = CharBuffer.wrap(chars, 0, length);
+            while (encoder.encode(input, bytes, true).isOverflow()) {
+                growBytes();
+            }
+            while (encoder.flush(bytes).isOverflow()) {
+                growBytes();
+            }
+            bytes.flip();
+            return this;
+        }
+
+        private void growBytes() {
+            ByteBuffer larger = ByteBuffer.allocate(bytes.capacity() * 2);
+            bytes.flip();
+            larger.put(bytes);
+            bytes = larger;
+        }
+
+        private ByteBuffer toByteBuffer() {
+            return bytes;
+        }
+
+        private void writeTo(OutputStream out) throws IOException {
+            out.write(bytes.array(), bytes.position(), bytes.remaining());
+        }
+
+        private void reset() {
+            length = 0;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    // null이 아니면 classes 다음에 "cycles" 섹션을 출력
+    public void setCycleReport(CycleReport cycleReport) {
+        this.cycleReport = cycleReport;
+    }
+
+    // null이 아니면 클래스마다 전이 의존 대상/의존자 수를 출력 (클래스 ID = classes 목록 순서)
+    public void setReachability(Reachability reachability) {
+        this.reachability = reachability;
+    }
+
+    // null이 아니면 메서드 ID별 시그니처와 호출 대상 ID 목록을 "callGraph" 섹션으로 출력
+    public void setCallGraph(MethodCallGraph callGraph) {
+        this.callGraph = callGraph;
+    }
+
+    // 1이면 호출 스레드에서 순서대로 출력
+    public void setThreadCount(int threadCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Thread count must be at least 1: " + threadCount);
+        }
+        this.threadCount = threadCount;
+    }
+
+    public void setCompact(boolean compact) {
+        this.compact = compact;
+    }
+
+    public void setGzip(boolean gzip) {
+        this.gzip = gzip;
+    }
+
+    // NDJSON은 한 줄에 레코드 하나이므로 항상 compact로 출력
+    public void setFormat(Format format) {
+        this.format = format;
+    }
 
     public String serialize(List<ClassInfo> classes) {
-        StringBuilder json = new StringBuilder();
+        StringWriter json = new StringWriter();
+        try {
+            serialize(classes, json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);  // StringWriter는 IOException을 던지지 않음
+        }
+        return json.toString();
+    }
+
+    // 문서 전체를 만들지 않고 클래스 단위로 바로 출력 (메모리 사용량이 프로젝트 크기와 무관)
+    public void serialize(List<ClassInfo> classes, Writer out) throws IOException {
+        for (Chunk chunk : split(classes)) {
+            chunk.write(out);
+        }
+    }
+
+    // 헤더, 클래스 CHUNK_SIZE개씩, 클래스 목록 끝 + 순환, 호출 그래프 메서드 CALL_GRAPH_CHUNK_SIZE개씩, 끝.
+    // NDJSON은 클래스, 순환 CHUNK_SIZE개씩, 메서드, 요약. 어느 조각도 메서드 수에 비례해 커지지 않음
+    private List<Chunk> split(List<ClassInfo> classes) {
+        int classCount = classes.size();
+        List<Chunk> chunks = new ArrayList<>();
+        chunks.add(out -> writeHeader(out, classCount));
+        for (int from = 0; from < classCount; from += CHUNK_SIZE) {
+            int start = from;
+            int end = Math.min(from + CHUNK_SIZE, classCount);
+            chunks.add(out -> writeClasses(out, classes, start, end));
+        }
+
+        if (format == Format.NDJSON) {
+            if (cycleReport != null) {
+                addCycleRecords(chunks, "class", cycleReport.getClassCycles());
+                addCycleRecords(chunks, "package", cycleReport.getPackageCycles());
+            }
+            addCallGraphMethods(chunks);
+            chunks.add(out -> writeSummary(out, classCount));
+        } else {
+            chunks.add(out -> writeFooterStart(out, classCount));
+            addCallGraphMethods(chunks);
+            chunks.add(this::writeFooterEnd);
+        }
+        return chunks;
+    }
+
+    private void addCycleRecords(List<Chunk> chunks, String kind, List<List<String>> cycles) {
+        for (int from = 0; from < cycles.size(); from += CHUNK_SIZE) {
+            int start = from;
+            int end = Math.min(from + CHUNK_SIZE, cycles.size());
+            chunks.add(out -> writeCycleRecords(out, kind, cycles, start, end));
+        }
+    }
+
+    private void addCallGraphMethods(List<Chunk> chunks) {
+        if (callGraph == null) {
+            return;
+        }
+        MethodCallGraph graph = callGraph;
+        for (int from = 0; from < graph.getMethodCount(); from += CALL_GRAPH_CHUNK_SIZE) {
+            int start = from;
+            int end = Math.min(from + CALL_GRAPH_CHUNK_SIZE, graph.getMethodCount());
+            chunks.add(out -> writeCallGraphMethods(out, graph, start, end, 1));
+        }
+    }
+
+    // JSON 파일로 바로 출력 (UTF-8). 클래스가 많으면 청크 단위로 병렬 생성
+    public void writeToFile(List<ClassInfo> classes, String filePath) throws IOException {
+        Path path = Paths.get(filePath);
+        if (gzip) {
+            // 압축은 호출 스레드에서 청크 순서대로 스트리밍
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(path), GZIP_BUFFER_SIZE)) {
+                writeChunks(classes, batch -> {
+                    for (ChunkBuffer buffer : batch) {
+                        buffer.writeTo(out);
+                    }
+                });
+            }
+        } else {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                writeChunks(classes, batch -> writeFully(channel, batch));
+            }
+        }
+        System.out.println("JSON saved to: " + path.toAbsolutePath());
+    }
+
+    private void writeChunks(List<ClassInfo> classes, ChunkSink sink) throws IOException {
+        List<Chunk> chunks = split(classes);
+        if (threadCount > 1 && classes.size() > CHUNK_SIZE) {
+            writeParallel(chunks, sink);
+        } else {
+            writeSequential(chunks, sink);
+        }
+    }
+
+    // 호출 스레드에서 청크 하나씩 만들어 기록 (버퍼 하나를 재사용)
+    private void writeSequential(List<Chunk> chunks, ChunkSink sink) throws IOException {
+        ChunkBuffer buffer = new ChunkBuffer();
+        List<ChunkBuffer> batch = List.of(buffer);
+
+        for (Chunk chunk : chunks) {
+            chunk.write(buffer);
+            buffer.finish();
+            sink.write(batch);
+            buffer.reset();
+        }
+    }
+
+    // 워커 스레드가 청크를 UTF-8 바이트로 만들고, 호출 스레드가 원래 순서대로 모아서 기록.
+    // 동시에 만들어 두는 청크는 버퍼 수(threadCount * 2)로 제한하고 버퍼는 기록 후 재사용
+    private void writeParallel(List<Chunk> chunks, ChunkSink sink) throws IOException {
+        int chunkCount = chunks.size();
+
+        ArrayDeque<ChunkBuffer> freeBuffers = new ArrayDeque<>();
+        for (int i = 0; i < threadCount * 2; i++) {
+            freeBuffers.add(new ChunkBuffer());
+        }
+        ArrayDeque<Future<ChunkBuffer>> pending = new ArrayDeque<>();
+        List<ChunkBuffer> batch = new ArrayList<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            int nextChunk = 0;
+            while (nextChunk < chunkCount || !pending.isEmpty()) {
+                while (nextChunk < chunkCount && !freeBuffers.isEmpty()) {
+                    ChunkBuffer buffer = freeBuffers.poll();
+                    Chunk chunk = chunks.get(nextChunk);
+                    pending.add(executor.submit(() -> {
+                        chunk.write(buffer);
+                        return buffer.finish();
+                    }));
+                    nextChunk++;
+                }
+
+                // 맨 앞 청크를 기다린 뒤, 이미 끝난 다음 청크들까지 한 번에 기록
+                batch.add(pending.poll().get());
+                while (!pending.isEmpty() && pending.peek().isDone()) {
+                    batch.add(pending.poll().get());
+                }
+                sink.write(batch);
+                for (ChunkBuffer buffer : batch) {
+                    buffer.reset();
+                    freeBuffers.add(buffer);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("JSON serialization was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("JSON serialization failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 여러 버퍼를 순서대로 한 번의 gathering write로 기록 (부분 기록이면 남은 부분을 이어서 기록)
+    private static void writeFully(FileChannel channel, List<ChunkBuffer> batch) throws IOException {
+        ByteBuffer[] buffers = new ByteBuffer[batch.size()];
+        long remaining = 0;
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = batch.get(i).toByteBuffer();
+            remaining += buffers[i].remaining();
+        }
+        while (remaining > 0) {
+            remaining -= channel.write(buffers);
+        }
+    }
 
-        json.append("{\n");
-        json.append("  \"projectName\": \"").append(getProjectName()).append("\",\n");
-        json.append("  \"analyzedAt\": \"").append(getCurrentTimestamp()).append("\",\n");
-        json.append("  \"totalClasses\": ").append(classes.size()).append(",\n");
-        json.append("  \"classes\": [\n");
+    private void writeHeader(Writer out, int classCount) throws IOException {
+        if (format == Format.NDJSON) {
+            return;  // 프로젝트 정보는 마지막 요약 레코드(writeSummary)에 출력
+        }
+
+        out.write("{");
+        newline(out, 1);
+        writeProjectFields(out, classCount);
+        out.write(",");
+        newline(out, 1);
+        name(out, "classes");
+        out.write("[");
+    }
+
+    private void writeProjectFields(Writer out, int classCount) throws IOException {
+        name(out, "projectName");
+        writeString(out, getProjectName());
+        out.write(",");
+        newline(out, 1);
+        name(out, "analyzedAt");
+        writeString(out, getCurrentTimestamp());
+        out.write(",");
+        newline(out, 1);
+        name(out, "totalClasses");
+        out.write(String.valueOf(classCount));
+    }
 
-        for (int i = 0; i < classes.size(); i++) {
-            json.append(serializeClass(classes.get(i), 2));
+    // classes[from, to) 출력. 마지막 클래스 뒤에만 쉼표가 없으므로 청크로 나눠 출력해도 결과가 같음
+    private void writeClasses(Writer out, List<ClassInfo> classes, int from, int to) throws IOException {
+        if (format == Format.NDJSON) {
+            for (int i = from; i < to; i++) {
+                writeClass(out, classes.get(i), i, 0);
+                out.write("\n");
+            }
+            return;
+        }
+
+        for (int i = from; i < to; i++) {
+            newline(out, 2);
+            writeClass(out, classes.get(i), i, 2);
             if (i < classes.size() - 1) {
-                json.append(",");
+                out.write(",");
             }
-            json.append("\n");
         }
+    }
 
-        json.append("  ]\n");
-        json.append("}");
+    // 클래스 목록을 닫고 순환, 호출 그래프 앞부분("methods": [ 까지) 출력
+    private void writeFooterStart(Writer out, int classCount) throws IOException {
+        newline(out, 1);
+        out.write("]");
 
-        return json.toString();
+        if (cycleReport != null) {
+            out.write(",");
+            newline(out, 1);
+            writeCycles(out, cycleReport, 1);
+        }
+
+        if (callGraph != null) {
+            out.write(",");
+            newline(out, 1);
+            writeCallGraphStart(out, callGraph, 1);
+        }
+    }
+
+    private void writeFooterEnd(Writer out) throws IOException {
+        if (callGraph != null) {
+            writeCallGraphEnd(out, callGraph, 1);
+        }
+
+        newline(out, 0);
+        out.write("}");
+    }
+
+    // NDJSON 마지막 줄: 프로젝트 정보와 개수만 (순환/호출 그래프 내용은 각자의 레코드로 출력)
+    private void writeSummary(Writer out, int classCount) throws IOException {
+        out.write("{");
+        writeRecordType(out, "summary");
+        writeProjectFields(out, classCount);
+        if (cycleReport != null) {
+            writeFieldName(out, 1, "classCycles");
+            out.write(String.valueOf(cycleReport.getClassCycles().size()));
+            writeFieldName(out, 1, "packageCycles");
+            out.write(String.valueOf(cycleReport.getPackageCycles().size()));
+        }
+        if (callGraph != null) {
+            writeFieldName(out, 1, "methodCount");
+            out.write(String.valueOf(callGraph.getMethodCount()));
+            writeFieldName(out, 1, "callCount");
+            out.write(String.valueOf(callGraph.getEdgeCount()));
+        }
+        out.write("}\n");
+    }
+
+    // 순환 하나당 한 줄: {"record":"cycle","kind":"class","members":[...]}
+    private void writeCycleRecords(Writer out, String kind, List<List<String>> cycles, int from, int to)
+            throws IOException {
+        for (int i = from; i < to; i++) {
+            out.write("{");
+            writeRecordType(out, "cycle");
+            name(out, "kind");
+            writeString(out, kind);
+            out.write(",");
+            name(out, "members");
+            writeStringList(out, cycles.get(i));
+            out.write("}\n");
+        }
+    }
+
+    // NDJSON 레코드 구분 필드 ("record":"...",)
+    private void writeRecordType(Writer out, String type) throws IOException {
+        name(out, "record");
+        writeString(out, type);
+        out.write(",");
     }
 
-    private String serializeClass(ClassInfo classInfo, int indentLevel) {
-        StringBuilder json = new StringBuilder();
-        String indent = "  ".repeat(indentLevel);
+    // 의존성 순환 (클래스 / 패키지)
+    private void writeCycles(Writer out, CycleReport report, int level) throws IOException {
+        name(out, "cycles");
+        out.write("{");
+        newline(out, level + 1);
+        name(out, "classes");
+        writeCycleList(out, report.getClassCycles(), level + 1);
+        out.write(",");
+        newline(out, level + 1);
+        name(out, "packages");
+        writeCycleList(out, report.getPackageCycles(), level + 1);
+        newline(out, level);
+        out.write("}");
+    }
+
+    // 메서드 수, 호출 수와 "methods" 배열 시작. 메서드 항목은 writeCallGraphMethods로 나눠서 출력
+    private void writeCallGraphStart(Writer out, MethodCallGraph graph, int level) throws IOException {
+        name(out, "callGraph");
+        out.write("{");
+        newline(out, level + 1);
+        name(out, "methodCount");
+        out.write(String.valueOf(graph.getMethodCount()));
+        out.write(",");
+        newline(out, level + 1);
+        name(out, "callCount");
+        out.write(String.valueOf(graph.getEdgeCount()));
+        out.write(",");
+        newline(out, level + 1);
+        name(out, "methods");
+        out.write(graph.getMethodCount() == 0 ? "[]" : "[");
+    }
+
+    // 메서드 ID [from, to) 출력. 메서드 하나당 한 줄: {"id": 0, "signature": "...", "calls": [호출 대상 ID]}
+    // NDJSON은 {"record":"method",...} 레코드 한 줄씩
+    private void writeCallGraphMethods(Writer out, MethodCallGraph graph, int from, int to, int level)
+            throws IOException {
+        for (int id = from; id < to; id++) {
+            if (format == Format.NDJSON) {
+                out.write("{");
+                writeRecordType(out, "method");
+            } else {
+                newline(out, level + 2);
+                out.write("{");
+            }
+            name(out, "id");
+            out.write(String.valueOf(id));
+            comma(out);
+            name(out, "signature");
+            writeString(out, graph.getSignature(id));
+            comma(out);
+            name(out, "calls");
+            out.write("[");
+            int[] callees = graph.getCallees(id);
+            for (int i = 0; i < callees.length; i++) {
+                if (i > 0) {
+                    comma(out);
+                }
+                out.write(String.valueOf(callees[i]));
+            }
+            out.write("]}");
+            if (format == Format.NDJSON) {
+                out.write("\n");
+            } else if (id < graph.getMethodCount() - 1) {
+                out.write(",");
+            }
+        }
+    }
+
+    private void writeCallGraphEnd(Writer out, MethodCallGraph graph, int level) throws IOException {
+        if (graph.getMethodCount() > 0) {
+            newline(out, level + 1);
+            out.write("]");
+        }
+        newline(out, level);
+        out.write("}");
+    }
 
-        json.append(indent).append("{\n");
+    private void writeCycleList(Writer out, List<List<String>> cycles, int level) throws IOException {
+        if (cycles.isEmpty()) {
+            out.write("[]");
+            return;
+        }
+
+        out.write("[");
+        for (int i = 0; i < cycles.size(); i++) {
+            newline(out, level + 1);
+            writeStringList(out, cycles.get(i));
+            if (i < cycles.size() - 1) {
+                out.write(",");
+            }
+        }
+        newline(out, level);
+        out.write("]");
+    }
+
+    private void writeClass(Writer out, ClassInfo classInfo, int classId, int level) throws IOException {
+        out.write("{");
+        if (format == Format.NDJSON) {
+            writeRecordType(out, "class");
+        }
 
         // Package
         if (classInfo.getPackageName() != null && !classInfo.getPackageName().isEmpty()) {
-            json.append(indent).append("  \"package\": \"").append(escape(classInfo.getPackageName())).append("\",\n");
+            newline(out, level + 1);
+            name(out, "package");
+            writeString(out, classInfo.getPackageName());
+            out.write(",");
         }
 
         // Class name
-        json.append(indent).append("  \"className\": \"").append(escape(classInfo.getClassName())).append("\"");
+        newline(out, level + 1);
+        name(out, "className");
+        writeString(out, classInfo.getClassName());
 
         // Access modifier
         if (classInfo.getAccessModifier() != null) {
-            json.append(",\n").append(indent).append("  \"accessModifier\": \"").append(escape(classInfo.getAccessModifier())).append("\"");
+            writeFieldName(out, level + 1, "accessModifier");
+            writeString(out, classInfo.getAccessModifier());
         }
 
         // Modifiers
         if (classInfo.getModifiers() != null && !classInfo.getModifiers().isEmpty()) {
-            json.append(",\n").append(indent).append("  \"modifiers\": ");
-            json.append(serializeStringList(classInfo.getModifiers()));
+            writeFieldName(out, level + 1, "modifiers");
+            writeStringList(out, classInfo.getModifiers());
         }
 
         // Extends
         if (classInfo.getExtendsClass() != null && !classInfo.getExtendsClass().isEmpty()) {
-            json.append(",\n").append(indent).append("  \"extends\": \"").append(escape(classInfo.getExtendsClass())).append("\"");
+            writeFieldName(out, level + 1, "extends");
+            writeString(out, classInfo.getExtendsClass());
         }
 
         // Implements
         if (classInfo.getImplementsList() != null && !classInfo.getImplementsList().isEmpty()) {
-            json.append(",\n").append(indent).append("  \"implements\": ");
-            json.append(serializeStringList(classInfo.getImplementsList()));
+            writeFieldName(out, level + 1, "implements");
+            writeStringList(out, classInfo.getImplementsList());
         }
 
         // Imports
         if (classInfo.getImports() != null && !classInfo.getImports().isEmpty()) {
-            json.append(",\n").append(indent).append("  \"imports\": ");
-            json.append(serializeStringList(classInfo.getImports()));
+            writeFieldName(out, level + 1, "imports");
+            writeStringList(out, classInfo.getImports());
         }
 
         // Methods
         if (classInfo.getMethods() != null && !classInfo.getMethods().isEmpty()) {
-            json.append(",\n").append(indent).append("  \"methods\": [\n");
+            writeFieldName(out, level + 1, "methods");
+            out.write("[");
             List<MethodInfo> methods = classInfo.getMethods();
             for (int i = 0; i < methods.size(); i++) {
-                json.append(serializeMethod(methods.get(i), indentLevel + 2));
+                newline(out, level + 2);
+                writeMethod(out, methods.get(i), level + 2);
                 if (i < methods.size() - 1) {
-                    json.append(",");
+                    out.write(",");
                 }
-                json.append("\n");
             }
-            json.append(indent).append("  ]");
+            newline(out, level + 1);
+            out.write("]");
         }
 
         // Dependencies
         if (classInfo.getDependencies() != null && !classInfo.getDependencies().isEmpty()) {
-            json.append(",\n").append(indent).append("  \"dependencies\": ");
-            json.append(serializeStringList(classInfo.getDependencies()));
+            writeFieldName(out, level + 1, "dependencies");
+            writeStringList(out, classInfo.getDependencies());
         }
 
-        json.append("\n").append(indent).append("}");
+        // Transitive dependency counts
+        if (reachability != null) {
+            writeFieldName(out, level + 1, "transitiveDependencies");
+            out.write(String.valueOf(reachability.getTransitiveDependencyCount(classId)));
+            writeFieldName(out, level + 1, "transitiveDependents");
+            out.write(String.valueOf(reachability.getTransitiveDependentCount(classId)));
+        }
 
-        return json.toString();
+        newline(out, level);
+        out.write("}");
     }
 
-    // MethodInfo를 JSON으로 변환
-    private String serializeMethod(MethodInfo method, int indentLevel) {
-        StringBuilder json = new StringBuilder();
-        String indent = "  ".repeat(indentLevel);
-
-        json.append(indent).append("{\n");
-        json.append(indent).append("  \"name\": \"").append(escape(method.getMethodName())).append("\",\n");
+    // MethodInfo를 JSON으로 출력
+    private void writeMethod(Writer out, MethodInfo method, int level) throws IOException {
+        out.write("{");
+        newline(out, level + 1);
+        name(out, "name");
+        writeString(out, method.getMethodName());
 
         if (method.getMethodAccessModifier() != null) {
-            json.append(indent).append("  \"accessModifier\": \"").append(escape(method.getMethodAccessModifier())).append("\",\n");
+            writeFieldName(out, level + 1, "accessModifier");
+            writeString(out, method.getMethodAccessModifier());
         }
 
-        json.append(indent).append("  \"returnType\": \"").append(escape(method.getReturnType())).append("\",\n");
-        json.append(indent).append("  \"lineNumber\": ").append(method.getLineNumber());
+        writeFieldName(out, level + 1, "returnType");
+        writeString(out, method.getReturnType());
+        writeFieldName(out, level + 1, "lineNumber");
+        out.write(String.valueOf(method.getLineNumber()));
 
         // Parameters
         if (method.getParameters() != null && !method.getParameters().isEmpty()) {
-            json.append(",\n").append(indent).append("  \"parameters\": [\n");
+            writeFieldName(out, level + 1, "parameters");
+            out.write("[");
             List<Parameter> params = method.getParameters();
             for (int i = 0; i < params.size(); i++) {
-                json.append(serializeParameter(params.get(i), indentLevel + 2));
+                newline(out, level + 2);
+                writeParameter(out, params.get(i));
                 if (i < params.size() - 1) {
-                    json.append(",");
+                    out.write(",");
                 }
-                json.append("\n");
             }
-            json.append(indent).append("  ]");
+            newline(out, level + 1);
+            out.write("]");
         }
 
         // Method calls
         if (method.getMethodCalls() != null && !method.getMethodCalls().isEmpty()) {
-            json.append(",\n").append(indent).append("  \"calls\": [\n");
+            writeFieldName(out, level + 1, "calls");
+            out.write("[");
             List<MethodCall> calls = method.getMethodCalls();
             for (int i = 0; i < calls.size(); i++) {
-                json.append(serializeMethodCall(calls.get(i), indentLevel + 2));
+                newline(out, level + 2);
+                writeMethodCall(out, calls.get(i), level + 2);
                 if (i < calls.size() - 1) {
-                    json.append(",");
+                    out.write(",");
                 }
-                json.append("\n");
             }
-            json.append(indent).append("  ]");
+            newline(out, level + 1);
+            out.write("]");
         }
 
-        json.append("\n").append(indent).append("}");
-
-        return json.toString();
+        newline(out, level);
+        out.write("}");
     }
 
-    // Parameter를 JSON으로 변환
-    private String serializeParameter(Parameter param, int indentLevel) {
-        String indent = "  ".repeat(indentLevel);
-        return indent + "{\"type\": \"" + escape(param.getType()) + "\", \"name\": \"" + escape(param.getName()) + "\"}";
+    // Parameter를 한 줄 JSON 객체로 출력
+    private void writeParameter(Writer out, Parameter param) throws IOException {
+        out.write("{");
+        name(out, "type");
+        writeString(out, param.getType());
+        comma(out);
+        name(out, "name");
+        writeString(out, param.getName());
+        out.write("}");
     }
 
-    // MethodCall을 JSON으로 변환
-    private String serializeMethodCall(MethodCall call, int indentLevel) {
-        StringBuilder json = new StringBuilder();
-        String indent = "  ".repeat(indentLevel);
-
-        json.append(indent).append("{\n");
-
+    // MethodCall을 JSON으로 출력
+    private void writeMethodCall(Writer out, MethodCall call, int level) throws IOException {
+        out.write("{");
+        newline(out, level + 1);
+        name(out, "targetClass");
         if (call.getTargetClass() != null) {
-            json.append(indent).append("  \"targetClass\": \"").append(escape(call.getTargetClass())).append("\",\n");
+            writeString(out, call.getTargetClass());
         } else {
-            json.append(indent).append("  \"targetClass\": null,\n");
+            out.write("null");
         }
 
-        json.append(indent).append("  \"targetMethod\": \"").append(escape(call.getTargetMethod())).append("\",\n");
-        json.append(indent).append("  \"line\": ").append(call.getLineNumber()).append("\n");
-        json.append(indent).append("}");
+        writeFieldName(out, level + 1, "targetMethod");
+        writeString(out, call.getTargetMethod());
+        writeFieldName(out, level + 1, "line");
+        out.write(String.valueOf(call.getLineNumber()));
+        newline(out, level);
+        out.write("}");
+    }
 
-        return json.toString();
+    // 앞 필드 뒤의 쉼표 + 줄바꿈/들여쓰기 + "name":
+    private void writeFieldName(Writer out, int level, String name) throws IOException {
+        out.write(",");
+        newline(out, level);
+        name(out, name);
     }
 
-    // String 리스트를 JSON 배열로 변환
-    private String serializeStringList(List<String> list) {
-        StringBuilder json = new StringBuilder();
-        json.append("[");
+    // String 리스트를 한 줄 JSON 배열로 출력
+    private void writeStringList(Writer out, List<String> list) throws IOException {
+        out.write("[");
         for (int i = 0; i < list.size(); i++) {
-            json.append("\"").append(escape(list.get(i))).append("\"");
-            if (i < list.size() - 1) {
-                json.append(", ");
+            if (i > 0) {
+                comma(out);
             }
+            writeString(out, list.get(i));
         }
-        json.append("]");
-        return json.toString();
+        out.write("]");
     }
 
-    // JSON 파일로 저장
+    private static void writeString(Writer out, String value) throws IOException {
+        out.write("\"");
+        JsonEscaper.escape(value, out);
+        out.write("\"");
+    }
+
+    // 줄바꿈 + level 단계 들여쓰기 (compact이면 출력하지 않음)
+    private void newline(Writer out, int level) throws IOException {
+        if (isCompact()) {
+            return;
+        }
+        out.write(level < NEWLINE_INDENTS.length ? NEWLINE_INDENTS[level] : "\n" + "  ".repeat(level));
+    }
+
+    // 객체 필드 이름 + 콜론
+    private void name(Writer out, String name) throws IOException {
+        out.write("\"");
+        out.write(name);
+        out.write(isCompact() ? "\":" : "\": ");
+    }
+
+    // 한 줄 안의 배열 원소 / 객체 필드 구분
+    private void comma(Writer out) throws IOException {
+        out.write(isCompact() ? "," : ", ");
+    }
+
+    private boolean isCompact() {
+        return compact || format == Format.NDJSON;
+    }
+
+    // 이미 만든 JSON 문자열을 파일로 저장
     public void saveToFile(String json, String filePath) throws IOException {
         Path path = Paths.get(filePath);
         Files.writeString(path, json);
@@ -213,14 +810,4 @@ public class JsonSerializer {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
         return now.format(formatter);
     }
-
-    // JSON 특수문자 이스케이프
-    private String escape(String str) {
-        if (str == null) return "";
-        return str.replace("\\", "\\\\")
-                .replace("\"", "\\\"")
-                .replace("\n", "\\n")
-                .replace("\r", "\\r")
-                .replace("\t", "\\t");
-    }
 }
\ No newline at end of file
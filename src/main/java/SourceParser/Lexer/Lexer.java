@@ -1,18 +1,22 @@
 package SourceParser.Lexer;
 
 import SourceParser.Tokenizer.Token;
+import SourceParser.Tokenizer.TokenBuffer;
 import SourceParser.Tokenizer.TokenType;
 import SourceParser.Tokenizer.Tokenizer;
 
-import java.util.List;
-
 public class Lexer {
-    private final List<Token> tokens;
+    private final TokenBuffer tokens;
     private int position;
 
     public Lexer(String code) {
-        Tokenizer tokenizer = new Tokenizer(code);
-        this.tokens = tokenizer.tokenize();
+        this(code, false);
+    }
+
+    // skipBodies: 메서드 본문 내용을 토큰화하지 않음 (시그니처만 필요한 경우)
+    public Lexer(String code, boolean skipBodies) {
+        Tokenizer tokenizer = new Tokenizer(code, skipBodies);
+        this.tokens = tokenizer.tokenizeToBuffer();
         this.position = 0;
     }
 
@@ -25,8 +29,51 @@ public class Lexer {
     }
 
     public Token getCurrentToken() {
-        if (isAtEnd()) return tokens.get(tokens.size() - 1);
-        return tokens.get(position);
+        return tokens.getToken(currentIndex());
+    }
+
+    // Token 객체를 만들지 않는 현재 토큰 접근자
+    public TokenType getCurrentType() {
+        return tokens.getType(currentIndex());
+    }
+
+    public String getCurrentValue() {
+        return tokens.getValue(currentIndex());
+    }
+
+    public int getCurrentLine() {
+        return tokens.getLine(currentIndex());
+    }
+
+    public boolean currentValueEquals(String value) {
+        return tokens.valueEquals(currentIndex(), value);
+    }
+
+    public void appendCurrentTo(StringBuilder sb) {
+        tokens.appendTo(currentIndex(), sb);
+    }
+
+    // 현재 위치를 옮기지 않고 offset 뒤의 토큰 확인 (끝을 넘으면 EOF)
+    public TokenType peekType(int offset) {
+        return tokens.getType(peekIndex(offset));
+    }
+
+    public boolean peekValueEquals(int offset, String value) {
+        return tokens.valueEquals(peekIndex(offset), value);
+    }
+
+    // 현재 여는 괄호와 짝이 되는 닫는 괄호의 위치 (괄호가 아니면 -1)
+    public int getMatchingPosition() {
+        return tokens.getMatch(currentIndex());
+    }
+
+    // 현재 여는 괄호부터 짝이 되는 닫는 괄호 다음으로 바로 이동 (짝이 없으면 끝으로)
+    public void skipBalanced() {
+        int match = getMatchingPosition();
+        if (match < 0 || isAtEnd()) {
+            return;
+        }
+        position = Math.min(match + 1, tokens.size() - 1);
     }
 
     public void moveForward() {
@@ -34,16 +81,16 @@ public class Lexer {
     }
 
     public Token getLastToken() {
-        return tokens.get(position - 1);
+        return tokens.getToken(position - 1);
     }
 
     public boolean isAtEnd() {
-        return position >= tokens.size() - 1 && tokens.get(position).getType() == TokenType.EOF;
+        return position >= tokens.size() - 1 && tokens.getType(position) == TokenType.EOF;
     }
 
     public boolean check(TokenType type) {
         if (isAtEnd()) return false;
-        return getCurrentToken().getType() == type;
+        return tokens.getType(position) == type;
     }
 
     public boolean match(TokenType... types) {
@@ -57,15 +104,28 @@ public class Lexer {
     }
 
     public void skipAnyOf(TokenType... types) {
-        while (matchesAny(types) != null) {
+        while (checkAny(types)) {
             moveForward();
         }
     }
 
-    public Token matchesAny(TokenType... types) {
+    public boolean checkAny(TokenType... types) {
         for (TokenType type : types) {
-            if (check(type)) return getCurrentToken();
+            if (check(type)) return true;
         }
+        return false;
+    }
+
+    public Token matchesAny(TokenType... types) {
+        if (checkAny(types)) return getCurrentToken();
         return null;
     }
+
+    private int peekIndex(int offset) {
+        return Math.min(currentIndex() + offset, tokens.size() - 1);
+    }
+
+    private int currentIndex() {
+        return isAtEnd() ? tokens.size() - 1 : position;
+    }
 }
@@ -21,17 +21,12 @@ public class MethodCallTracker {
             return methodCalls;
         }
 
-        int braceDepth = 1;
+        // 본문 끝은 토크나이저가 기록한 짝 괄호 위치
+        int bodyEnd = lexer.getMatchingPosition();
         lexer.moveForward();
 
-        while (braceDepth > 0 && !lexer.isAtEnd()) {
-            if (lexer.check(TokenType.LBRACE)) {
-                braceDepth++;
-                lexer.moveForward();
-            } else if (lexer.check(TokenType.RBRACE)) {
-                braceDepth--;
-                lexer.moveForward();
-            } else if (isMethodCallPattern()) {
+        while (lexer.getPosition() < bodyEnd && !lexer.isAtEnd()) {
+            if (isMethodCallPattern()) {
                 MethodCall call = parseMethodCall();
                 if (call != null) {
                     methodCalls.add(call);
@@ -41,78 +36,106 @@ public class MethodCallTracker {
             }
         }
 
+        if (lexer.getPosition() == bodyEnd) {
+            lexer.moveForward();
+        }
+
         return methodCalls;
     }
 
     private boolean isMethodCallPattern() {
-        int savedPosition = lexer.getPosition();
-        boolean isCall = false;
-
-        if (lexer.getCurrentToken().getType() == TokenType.UNKNOWN) {
-            lexer.moveForward();
-
-            if (lexer.check(TokenType.DOT)) {
-                lexer.moveForward();
-
-                if (lexer.getCurrentToken().getType() == TokenType.UNKNOWN) {
-                    lexer.moveForward();
-
-                    if (lexer.check(TokenType.LPAREN)) {
-                        isCall = true;
-                    }
-                }
-            }
-            else if (lexer.check(TokenType.LPAREN)) {
-                isCall = true;
-            }
+        if (lexer.getCurrentType() != TokenType.UNKNOWN) {
+            return false;
         }
 
-        lexer.setPosition(savedPosition);
-        return isCall;
+        // identifier.identifier( 또는 identifier(
+        if (lexer.peekType(1) == TokenType.DOT) {
+            return lexer.peekType(2) == TokenType.UNKNOWN && lexer.peekType(3) == TokenType.LPAREN;
+        }
+        return lexer.peekType(1) == TokenType.LPAREN;
     }
 
     private MethodCall parseMethodCall() {
-        int lineNumber = lexer.getCurrentToken().getLine();
+        int lineNumber = lexer.getCurrentLine();
 
-        String first = lexer.getCurrentToken().getValue();
+        String first = lexer.getCurrentValue();
         lexer.moveForward();
 
         if (lexer.check(TokenType.DOT)) {
             lexer.moveForward();
 
             // 메서드명
-            String methodName = lexer.getCurrentToken().getValue();
+            String methodName = lexer.getCurrentValue();
             lexer.moveForward();
 
-            // 괄호 건너뛰기
-            skipParentheses();
+            // 인자 건너뛰기
+            int argumentCount = skipArguments();
 
-            return new MethodCall(first, methodName, lineNumber);
+            return new MethodCall(first, methodName, argumentCount, lineNumber);
         }
         else if (lexer.check(TokenType.LPAREN)) {
-            skipParentheses();
+            int argumentCount = skipArguments();
 
-            return new MethodCall(null, first, lineNumber);
+            return new MethodCall(null, first, argumentCount, lineNumber);
         }
 
         return null;
     }
 
-    private void skipParentheses() {
+    // 괄호 안 최상위 쉼표로 인자 수를 세고 닫는 괄호 다음으로 이동
+    // 중첩된 ( { [ 는 짝 괄호로 건너뛰고, 대문자 타입명 뒤의 < > 안 쉼표(new HashMap<K, V>())는 세지 않음
+    private int skipArguments() {
         if (!lexer.check(TokenType.LPAREN)) {
-            return;
+            return 0;
         }
 
-        int parenDepth = 1;
+        int end = lexer.getMatchingPosition();
+        if (end < 0) {
+            lexer.skipBalanced();
+            return MethodCall.UNKNOWN_ARGUMENT_COUNT;
+        }
         lexer.moveForward();
+        if (lexer.getPosition() == end) {
+            lexer.moveForward();
+            return 0;
+        }
 
-        while (parenDepth > 0 && !lexer.isAtEnd()) {
-            if (lexer.check(TokenType.LPAREN)) {
-                parenDepth++;
-            } else if (lexer.check(TokenType.RPAREN)) {
-                parenDepth--;
+        int argumentCount = 1;
+        int typeArgumentDepth = 0;
+        boolean afterTypeName = false;
+        while (lexer.getPosition() < end && !lexer.isAtEnd()) {
+            TokenType type = lexer.getCurrentType();
+            if (type == TokenType.LPAREN || type == TokenType.LBRACE || type == TokenType.LBRACKET) {
+                lexer.skipBalanced();
+                afterTypeName = false;
+                continue;
             }
+
+            if (type == TokenType.LT && (afterTypeName || typeArgumentDepth > 0)) {
+                typeArgumentDepth++;
+            } else if (type == TokenType.GT && typeArgumentDepth > 0) {
+                typeArgumentDepth--;
+            } else if (type == TokenType.COMMA && typeArgumentDepth == 0) {
+                argumentCount++;
+            }
+            afterTypeName = isTypeName(type);
             lexer.moveForward();
         }
+
+        if (lexer.getPosition() == end) {
+            lexer.moveForward();
+        }
+        return argumentCount;
+    }
+
+    private boolean isTypeName(TokenType type) {
+        if (type == TokenType.STRING) {
+            return true;
+        }
+        if (type != TokenType.UNKNOWN) {
+            return false;
+        }
+        String value = lexer.getCurrentValue();
+        return !value.isEmpty() && Character.isUpperCase(value.charAt(0));
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,13 @@
 package SourceParser.Model;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
-public class ClassInfo {
+public class ClassInfo implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private String filePath;
     private String packageName;
     private String className;
@@ -58,6 +61,14 @@ public class ClassInfo {
         this.className = className;
     }
 
+    // 패키지가 없으면 클래스명 그대로 (com.example.UserService)
+    public String getQualifiedName() {
+        if (packageName == null || packageName.isEmpty()) {
+            return className;
+        }
+        return packageName + "." + className;
+    }
+
     public String getAccessModifier() {
         return accessModifier;
     }
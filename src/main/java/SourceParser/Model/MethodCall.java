@@ -1,13 +1,26 @@
 package SourceParser.Model;
 
-public class MethodCall {
+import java.io.Serializable;
+
+public class MethodCall implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    // 인자 수를 모르는 호출 (이름만으로 메서드를 찾음)
+    public static final int UNKNOWN_ARGUMENT_COUNT = -1;
+
     private String targetClass;   // 호출 대상 클래스/객체 (예: userService, this, null)
     private String targetMethod;  // 호출 대상 메서드 (예: getUsers)
+    private int argumentCount;    // 인자 수
     private int lineNumber;       // 호출 위치
 
     public MethodCall(String targetClass, String targetMethod, int lineNumber) {
+        this(targetClass, targetMethod, UNKNOWN_ARGUMENT_COUNT, lineNumber);
+    }
+
+    public MethodCall(String targetClass, String targetMethod, int argumentCount, int lineNumber) {
         this.targetClass = targetClass;
         this.targetMethod = targetMethod;
+        this.argumentCount = argumentCount;
         this.lineNumber = lineNumber;
     }
 
@@ -27,6 +40,14 @@ public class MethodCall {
         this.targetMethod = targetMethod;
     }
 
+    public int getArgumentCount() {
+        return argumentCount;
+    }
+
+    public void setArgumentCount(int argumentCount) {
+        this.argumentCount = argumentCount;
+    }
+
     public int getLineNumber() {
         return lineNumber;
     }
@@ -1,10 +1,13 @@
 package SourceParser.Model;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
-public class MethodInfo {
+public class MethodInfo implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     String methodAccessModifier;
     String methodName;
     String returnType;
@@ -1,6 +1,10 @@
 package SourceParser.Model;
 
-public class Parameter {
+import java.io.Serializable;
+
+public class Parameter implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     String type;
     String name;
 
@@ -3,7 +3,6 @@ package SourceParser.Parser;
 import SourceParser.Lexer.Lexer;
 import SourceParser.Model.MethodInfo;
 import SourceParser.Model.Parameter;
-import SourceParser.Tokenizer.Token;
 import SourceParser.Tokenizer.TokenType;
 
 public class MethodParser {
@@ -23,14 +22,15 @@ public class MethodParser {
 
         String returnType = parseType();
         methodInfo.setReturnType(returnType);
-        methodInfo.setLineNumber(lexer.getCurrentToken().getLine());
+        methodInfo.setLineNumber(lexer.getCurrentLine());
 
-        Token methodNameToken = lexer.getCurrentToken();
-        methodInfo.setMethodName(methodNameToken.getValue());
+        methodInfo.setMethodName(lexer.getCurrentValue());
         lexer.moveForward();
 
         parseParameters(methodInfo);
 
+        skipThrowsClause();
+
         return methodInfo;
     }
 
@@ -51,7 +51,7 @@ public class MethodParser {
     private void parseParameters(MethodInfo method) {
         if (!lexer.check(TokenType.LPAREN)) {
             throw new RuntimeException("Expected '(' after method name at line "
-                    + lexer.getCurrentToken().getLine());
+                    + lexer.getCurrentLine());
         }
         lexer.moveForward();
 
@@ -63,8 +63,7 @@ public class MethodParser {
                 lexer.moveForward();
             }
 
-            Token nameToken = lexer.getCurrentToken();
-            String paramName = nameToken.getValue();
+            String paramName = lexer.getCurrentValue();
             lexer.moveForward();
 
             method.getParameters().add(new Parameter(paramType, paramName));
@@ -76,16 +75,26 @@ public class MethodParser {
 
         if (!lexer.check(TokenType.RPAREN)) {
             throw new RuntimeException("Expected ')' after parameters at line "
-                    + lexer.getCurrentToken().getLine());
+                    + lexer.getCurrentLine());
         }
         lexer.moveForward();
     }
 
+    // throws A, B 는 시그니처 결과에 포함하지 않고 본문 '{' 또는 ';' 앞까지 건너뜀
+    private void skipThrowsClause() {
+        if (!lexer.check(TokenType.THROWS)) {
+            return;
+        }
+
+        while (!lexer.check(TokenType.LBRACE) && !lexer.check(TokenType.SEMICOLON) && !lexer.isAtEnd()) {
+            lexer.moveForward();
+        }
+    }
+
     private String parseType() {
         StringBuilder methodReturnType = new StringBuilder();
 
-        Token returnTypeToken = lexer.getCurrentToken();
-        methodReturnType.append(returnTypeToken.getValue());
+        lexer.appendCurrentTo(methodReturnType);
         lexer.moveForward();
 
         if (lexer.check(TokenType.LT)) {
@@ -130,7 +139,7 @@ public class MethodParser {
 
         if (!lexer.check(TokenType.GT)) {
             throw new RuntimeException("Expected '>' at line "
-                    + lexer.getCurrentToken().getLine());
+                    + lexer.getCurrentLine());
         }
         genericSignature.append(">");
         lexer.moveForward();
@@ -150,7 +159,7 @@ public class MethodParser {
                 lexer.moveForward();
             } else {
                 throw new RuntimeException("Expected ']' after '[' at line "
-                        + lexer.getCurrentToken().getLine());
+                        + lexer.getCurrentLine());
             }
         }
 
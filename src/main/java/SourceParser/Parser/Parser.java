@@ -12,13 +12,24 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class Parser {
+    // 파싱 결과(ClassInfo)가 달라지는 변경마다 올림. 분석 캐시는 버전이 다르면 버림
+    // 2: 주석/문자열 안의 호출 제외, 3: static import를 "static a.b.C.m"으로 기록, 4: 메서드 호출 인자 수
+    public static final int VERSION = 4;
+
     private final Lexer lexer;
     private String className;
     private final MethodParser methodParser;
+    private final boolean signaturesOnly;
 
     public Parser(Lexer lexer) {
+        this(lexer, false);
+    }
+
+    // signaturesOnly: 메서드 본문의 호출 추적 없이 시그니처만 파싱
+    public Parser(Lexer lexer, boolean signaturesOnly) {
         this.lexer = lexer;
         this.methodParser = new MethodParser(lexer);
+        this.signaturesOnly = signaturesOnly;
     }
 
     public MethodInfo getMethodInfo() {
@@ -44,13 +55,13 @@ public class Parser {
         Token classType = lexer.matchesAny(TokenType.CLASS, TokenType.ENUM, TokenType.INTERFACE);
         if (classType == null) {
             throw new RuntimeException("Expected 'class', 'enum', or 'interface' keyword at line "
-                    + lexer.getCurrentToken().getLine());
+                    + lexer.getCurrentLine());
         }
 
         classInfo.setClassType(classType.getValue());
         lexer.moveForward();
 
-        this.className = lexer.getCurrentToken().getValue();
+        this.className = lexer.getCurrentValue();
         classInfo.setClassName(this.className);
         lexer.moveForward();
 
@@ -75,7 +86,7 @@ public class Parser {
         StringBuilder packageName = new StringBuilder();
 
         while(!lexer.check(TokenType.SEMICOLON)) {
-            packageName.append(lexer.getCurrentToken().getValue());
+            lexer.appendCurrentTo(packageName);
             lexer.moveForward();
         }
         lexer.moveForward();
@@ -91,8 +102,14 @@ public class Parser {
 
             StringBuilder importName = new StringBuilder();
 
+            // import static a.b.C.member; → "static a.b.C.member"
+            if (lexer.check(TokenType.STATIC)) {
+                importName.append("static ");
+                lexer.moveForward();
+            }
+
             while (!lexer.check(TokenType.SEMICOLON)) {
-                importName.append(lexer.getCurrentToken().getValue());
+                lexer.appendCurrentTo(importName);
                 lexer.moveForward();
             }
 
@@ -127,7 +144,7 @@ public class Parser {
     private String parseExtends() {
         lexer.moveForward();
 
-        String extendsClass = lexer.getCurrentToken().getValue();
+        String extendsClass = lexer.getCurrentValue();
         lexer.moveForward();
 
         return extendsClass;
@@ -144,7 +161,7 @@ public class Parser {
                 continue;
             }
 
-            implementsList.add(lexer.getCurrentToken().getValue());
+            implementsList.add(lexer.getCurrentValue());
             lexer.moveForward();
         }
 
@@ -156,17 +173,17 @@ public class Parser {
 
         if (!lexer.check(TokenType.LBRACE)) {
             throw new RuntimeException("Expected '{' at line "
-                    + lexer.getCurrentToken().getLine());
+                    + lexer.getCurrentLine());
         }
         lexer.moveForward();
 
         while (!lexer.check(TokenType.RBRACE) && !lexer.isAtEnd()) {
             skipAnnotations();
-            Token accessModifier = lexer.matchesAny(
+            boolean hasAccessModifier = lexer.checkAny(
                     TokenType.PUBLIC, TokenType.PRIVATE, TokenType.PROTECTED
             );
 
-            if (accessModifier != null) {
+            if (hasAccessModifier) {
                 if (isConstructor(className)) {
                     skipConstructor();
                 } else if (hasParenthesisAhead()) {
@@ -174,10 +191,14 @@ public class Parser {
                     MethodParser methodParser = new MethodParser(lexer);
                     MethodInfo method = methodParser.parserMethodSignature();
 
-                    // 메서드 호출 추적
-                    MethodCallTracker tracker = new MethodCallTracker(lexer);
-                    List<MethodCall> calls = tracker.trackMethodCalls();
-                    calls.forEach(call -> method.getMethodCalls().add(call));
+                    if (signaturesOnly) {
+                        skipMethodBody();
+                    } else {
+                        // 메서드 호출 추적
+                        MethodCallTracker tracker = new MethodCallTracker(lexer);
+                        List<MethodCall> calls = tracker.trackMethodCalls();
+                        calls.forEach(call -> method.getMethodCalls().add(call));
+                    }
 
                     methods.add(method);
 
@@ -194,46 +215,25 @@ public class Parser {
     }
 
     private void skipMethodBody() {
-        if (!lexer.check(TokenType.LBRACE)) {
-            return;
-        }
-
-        int braceCount = 1;
-        lexer.moveForward();
-
-        while (braceCount > 0 && !lexer.isAtEnd()) {
-            if (lexer.check(TokenType.LBRACE)) {
-                braceCount++;
-            } else if (lexer.check(TokenType.RBRACE)) {
-                braceCount--;
-            }
-            lexer.moveForward();
+        if (lexer.check(TokenType.LBRACE)) {
+            lexer.skipBalanced();
         }
     }
 
     private boolean hasParenthesisAhead() {
-        int savedPosition = lexer.getPosition();
-        boolean isMethod = false;
+        // 위치를 옮겼다 되돌리지 않고 앞쪽 토큰만 확인
+        for (int offset = 0; ; offset++) {
+            TokenType type = lexer.peekType(offset);
 
-        while (!lexer.isAtEnd()) {
-            if (lexer.check(TokenType.ASSIGN)) {
-                break;
+            if (type == TokenType.LPAREN) {
+                return true;
             }
 
-            if (lexer.check(TokenType.LPAREN)) {
-                isMethod = true;
-                break;
+            if (type == TokenType.ASSIGN || type == TokenType.SEMICOLON
+                    || type == TokenType.LBRACE || type == TokenType.EOF) {
+                return false;
             }
-
-            if (lexer.check(TokenType.SEMICOLON) || lexer.check(TokenType.LBRACE)) {
-                break;
-            }
-
-            lexer.moveForward();
         }
-
-        lexer.setPosition(savedPosition);
-        return isMethod;
     }
 
     private void skipToSemicolon() {
@@ -246,20 +246,7 @@ public class Parser {
     }
 
     private boolean isConstructor(String className) {
-        int savedPosition = lexer.getPosition();
-        boolean isConstructor = false;
-
-        lexer.moveForward();
-
-        if (lexer.getCurrentToken().getValue().equals(className)) {
-            lexer.moveForward();
-            if (lexer.check(TokenType.LPAREN)) {
-                isConstructor = true;
-            }
-        }
-
-        lexer.setPosition(savedPosition);
-        return isConstructor;
+        return lexer.peekValueEquals(1, className) && lexer.peekType(2) == TokenType.LPAREN;
     }
 
     private void skipConstructor() {
@@ -268,13 +255,7 @@ public class Parser {
         lexer.moveForward();
 
         if (lexer.check(TokenType.LPAREN)) {
-            lexer.moveForward();
-            int parenCount = 1;
-            while (parenCount > 0 && !lexer.isAtEnd()) {
-                if (lexer.check(TokenType.LPAREN)) parenCount++;
-                else if (lexer.check(TokenType.RPAREN)) parenCount--;
-                lexer.moveForward();
-            }
+            lexer.skipBalanced();
         }
 
         skipMethodBody();
@@ -284,7 +265,7 @@ public class Parser {
         while (lexer.check(TokenType.AT)) {
             lexer.moveForward();
 
-            if (lexer.getCurrentToken().getType() == TokenType.UNKNOWN) {
+            if (lexer.getCurrentType() == TokenType.UNKNOWN) {
                 lexer.moveForward();
             }
 
@@ -295,20 +276,8 @@ public class Parser {
     }
 
     private void skipAnnotationParameters() {
-        if (!lexer.check(TokenType.LPAREN)) {
-            return;
-        }
-
-        int parenDepth = 1;
-        lexer.moveForward();
-
-        while (parenDepth > 0 && !lexer.isAtEnd()) {
-            if (lexer.check(TokenType.LPAREN)) {
-                parenDepth++;
-            } else if (lexer.check(TokenType.RPAREN)) {
-                parenDepth--;
-            }
-            lexer.moveForward();
+        if (lexer.check(TokenType.LPAREN)) {
+            lexer.skipBalanced();
         }
     }
 
@@ -1,65 +1,102 @@
 package SourceParser.Tokenizer;
 
-import java.util.HashMap;
-import java.util.Map;
-
+/**
+ * 키워드 판별. 길이 → 첫 글자로 후보를 하나(또는 둘)로 좁힌 뒤 소스 구간과 직접 비교하므로
+ * 식별자마다 문자열을 만들거나 해시를 계산하지 않는다.
+ */
 public class KeywordMap {
-    private static final Map<String, TokenType> KEYWORDS = new HashMap<>();
-
-    static {
-        // 접근 제한자
-        KEYWORDS.put("public", TokenType.PUBLIC);
-        KEYWORDS.put("private", TokenType.PRIVATE);
-        KEYWORDS.put("protected", TokenType.PROTECTED);
-
-        // 수식어
-        KEYWORDS.put("static", TokenType.STATIC);
-        KEYWORDS.put("final", TokenType.FINAL);
-        KEYWORDS.put("abstract", TokenType.ABSTRACT);
-
-        // 클래스 키워드
-        KEYWORDS.put("class", TokenType.CLASS);
-        KEYWORDS.put("interface", TokenType.INTERFACE);
-        KEYWORDS.put("enum", TokenType.ENUM);
-        KEYWORDS.put("extends", TokenType.EXTENDS);
-        KEYWORDS.put("implements", TokenType.IMPLEMENTS);
-        KEYWORDS.put("super", TokenType.SUPER);
-
-        // 타입
-        KEYWORDS.put("int", TokenType.INT);
-        KEYWORDS.put("long", TokenType.LONG);
-        KEYWORDS.put("float", TokenType.FLOAT);
-        KEYWORDS.put("double", TokenType.DOUBLE);
-        KEYWORDS.put("char", TokenType.CHAR);
-        KEYWORDS.put("boolean", TokenType.BOOLEAN);
-        KEYWORDS.put("void", TokenType.VOID);
-        KEYWORDS.put("String", TokenType.STRING);
+    private static final int MAX_KEYWORD_LENGTH = 10;
 
-        // 제어문
-        KEYWORDS.put("if", TokenType.IF);
-        KEYWORDS.put("else", TokenType.ELSE);
-        KEYWORDS.put("for", TokenType.FOR);
-        KEYWORDS.put("while", TokenType.WHILE);
-        KEYWORDS.put("do", TokenType.DO);
-        KEYWORDS.put("return", TokenType.RETURN);
+    public static TokenType getType(String source, int start, int length) {
+        if (length < 2 || length > MAX_KEYWORD_LENGTH) {
+            return TokenType.UNKNOWN;
+        }
 
-        // 예외 처리
-        KEYWORDS.put("try", TokenType.TRY);
-        KEYWORDS.put("catch", TokenType.CATCH);
-        KEYWORDS.put("finally", TokenType.FINALLY);
-        KEYWORDS.put("throw", TokenType.THROW);
-        KEYWORDS.put("throws", TokenType.THROWS);
-
-        // 기타
-        KEYWORDS.put("package", TokenType.PACKAGE);
-        KEYWORDS.put("import", TokenType.IMPORT);
+        char first = source.charAt(start);
+        switch (length) {
+            case 2:
+                switch (first) {
+                    case 'i': return match(source, start, "if", TokenType.IF);
+                    case 'd': return match(source, start, "do", TokenType.DO);
+                    default: return TokenType.UNKNOWN;
+                }
+            case 3:
+                switch (first) {
+                    case 'i': return match(source, start, "int", TokenType.INT);
+                    case 'f': return match(source, start, "for", TokenType.FOR);
+                    case 't': return match(source, start, "try", TokenType.TRY);
+                    default: return TokenType.UNKNOWN;
+                }
+            case 4:
+                switch (first) {
+                    case 'e': return or(match(source, start, "enum", TokenType.ENUM),
+                            source, start, "else", TokenType.ELSE);
+                    case 'l': return match(source, start, "long", TokenType.LONG);
+                    case 'c': return match(source, start, "char", TokenType.CHAR);
+                    case 'v': return match(source, start, "void", TokenType.VOID);
+                    default: return TokenType.UNKNOWN;
+                }
+            case 5:
+                switch (first) {
+                    case 'f': return or(match(source, start, "final", TokenType.FINAL),
+                            source, start, "float", TokenType.FLOAT);
+                    case 'c': return or(match(source, start, "class", TokenType.CLASS),
+                            source, start, "catch", TokenType.CATCH);
+                    case 's': return match(source, start, "super", TokenType.SUPER);
+                    case 'w': return match(source, start, "while", TokenType.WHILE);
+                    case 't': return match(source, start, "throw", TokenType.THROW);
+                    default: return TokenType.UNKNOWN;
+                }
+            case 6:
+                switch (first) {
+                    case 'p': return match(source, start, "public", TokenType.PUBLIC);
+                    case 's': return match(source, start, "static", TokenType.STATIC);
+                    case 'd': return match(source, start, "double", TokenType.DOUBLE);
+                    case 'S': return match(source, start, "String", TokenType.STRING);
+                    case 'r': return match(source, start, "return", TokenType.RETURN);
+                    case 't': return match(source, start, "throws", TokenType.THROWS);
+                    case 'i': return match(source, start, "import", TokenType.IMPORT);
+                    default: return TokenType.UNKNOWN;
+                }
+            case 7:
+                switch (first) {
+                    case 'p': return or(match(source, start, "private", TokenType.PRIVATE),
+                            source, start, "package", TokenType.PACKAGE);
+                    case 'e': return match(source, start, "extends", TokenType.EXTENDS);
+                    case 'b': return match(source, start, "boolean", TokenType.BOOLEAN);
+                    case 'f': return match(source, start, "finally", TokenType.FINALLY);
+                    default: return TokenType.UNKNOWN;
+                }
+            case 8:
+                return first == 'a' ? match(source, start, "abstract", TokenType.ABSTRACT) : TokenType.UNKNOWN;
+            case 9:
+                switch (first) {
+                    case 'p': return match(source, start, "protected", TokenType.PROTECTED);
+                    case 'i': return match(source, start, "interface", TokenType.INTERFACE);
+                    default: return TokenType.UNKNOWN;
+                }
+            case 10:
+                return first == 'i' ? match(source, start, "implements", TokenType.IMPLEMENTS) : TokenType.UNKNOWN;
+            default:
+                return TokenType.UNKNOWN;
+        }
     }
 
     public static TokenType getType(String word) {
-        return KEYWORDS.getOrDefault(word, TokenType.UNKNOWN);
+        return getType(word, 0, word.length());
     }
 
     public static boolean isKeyword(String word) {
-        return KEYWORDS.containsKey(word);
+        return getType(word) != TokenType.UNKNOWN;
+    }
+
+    // 첫 글자는 이미 확인했으므로 두 번째 글자부터 비교
+    private static TokenType match(String source, int start, String keyword, TokenType type) {
+        return source.regionMatches(start + 1, keyword, 1, keyword.length() - 1) ? type : TokenType.UNKNOWN;
+    }
+
+    // 길이와 첫 글자가 같은 키워드가 둘인 경우 두 번째 후보 확인
+    private static TokenType or(TokenType matched, String source, int start, String keyword, TokenType type) {
+        return matched != TokenType.UNKNOWN ? matched : match(source, start, keyword, type);
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,27 @@
 package SourceParser.Tokenizer;
 
+import java.nio.CharBuffer;
+
+// 소스 문자열의 [start, start + length) 구간을 가리키는 토큰. 문자열 값은 필요할 때만 만든다.
 public class Token {
     private final TokenType type;
-    private final String value;
+    private final String source;
+    private final int start;
+    private final int length;
     private final int line;
     private final int column;
+    private String value;
 
     public Token(TokenType type, String value, int line, int column) {
-        this.type = type;
+        this(type, value, 0, value.length(), line, column);
         this.value = value;
+    }
+
+    public Token(TokenType type, String source, int start, int length, int line, int column) {
+        this.type = type;
+        this.source = source;
+        this.start = start;
+        this.length = length;
         this.line = line;
         this.column = column;
     }
@@ -18,15 +31,43 @@ public class Token {
     }
 
     public String getValue() {
+        if (value == null) {
+            value = source.substring(start, start + length);
+        }
         return value;
     }
 
+    // 문자열을 만들지 않는 읽기 전용 뷰
+    public CharSequence getText() {
+        return value != null ? value : CharBuffer.wrap(source, start, start + length);
+    }
+
+    public boolean valueEquals(String other) {
+        return other.length() == length && source.regionMatches(start, other, 0, length);
+    }
+
+    public void appendTo(StringBuilder sb) {
+        sb.append(source, start, start + length);
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
     public int getLine() {
         return line;
     }
 
+    public int getColumn() {
+        return column;
+    }
+
     @Override
     public String toString() {
-        return String.format("Token(Type: %s, Keyword: %s, Position: %s:%s)", type, value, line, column);
+        return String.format("Token(Type: %s, Keyword: %s, Position: %s:%s)", type, getValue(), line, column);
     }
 }
@@ -0,0 +1,144 @@
+package SourceParser.Tokenizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 토큰을 객체 대신 기본형 배열(타입 ordinal, 시작 위치, 길이)로 저장하는 버퍼.
+ * 줄 번호/컬럼은 줄 시작 위치 테이블에서 필요할 때 계산한다.
+ * 여는 괄호 ( { [ 는 짝이 되는 닫는 괄호의 인덱스를 함께 기록한다 (짝이 없으면 EOF 인덱스).
+ */
+public class TokenBuffer {
+    private static final TokenType[] TYPES = TokenType.values();
+
+    private final String source;
+    private byte[] types;
+    private int[] starts;
+    private int[] lengths;
+    private int[] matches;
+    private int size;
+
+    private int[] lineStarts;
+    private int lineCount;
+
+    public TokenBuffer(String source) {
+        this.source = source;
+
+        int capacity = Math.max(16, source.length() / 4);
+        this.types = new byte[capacity];
+        this.starts = new int[capacity];
+        this.lengths = new int[capacity];
+        this.matches = new int[capacity];
+        this.size = 0;
+
+        this.lineStarts = new int[Math.max(16, source.length() / 32)];
+        this.lineStarts[0] = 0;
+        this.lineCount = 1;
+    }
+
+    void add(TokenType type, int start, int length) {
+        if (size == types.length) {
+            int newCapacity = size * 2;
+            types = Arrays.copyOf(types, newCapacity);
+            starts = Arrays.copyOf(starts, newCapacity);
+            lengths = Arrays.copyOf(lengths, newCapacity);
+            matches = Arrays.copyOf(matches, newCapacity);
+        }
+
+        types[size] = (byte) type.ordinal();
+        starts[size] = start;
+        lengths[size] = length;
+        matches[size] = -1;
+        size++;
+    }
+
+    // 여는 괄호와 닫는 괄호를 서로 연결
+    void setMatch(int open, int close) {
+        matches[open] = close;
+        matches[close] = open;
+    }
+
+    // offset 위치에서 새 줄이 시작됨 ('\n' 바로 다음 문자)
+    void addLineStart(int offset) {
+        if (lineCount == lineStarts.length) {
+            lineStarts = Arrays.copyOf(lineStarts, lineCount * 2);
+        }
+        lineStarts[lineCount++] = offset;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public TokenType getType(int index) {
+        return TYPES[types[index]];
+    }
+
+    public int getStart(int index) {
+        return starts[index];
+    }
+
+    public int getLength(int index) {
+        return lengths[index];
+    }
+
+    // 여는 괄호면 짝이 되는 닫는 괄호, 닫는 괄호면 여는 괄호의 인덱스 (괄호가 아니면 -1)
+    public int getMatch(int index) {
+        return matches[index];
+    }
+
+    public int getLine(int index) {
+        return lineIndexOf(starts[index]) + 1;
+    }
+
+    public int getColumn(int index) {
+        int start = starts[index];
+        return start - lineStarts[lineIndexOf(start)] + 1;
+    }
+
+    public String getValue(int index) {
+        return source.substring(starts[index], starts[index] + lengths[index]);
+    }
+
+    public boolean valueEquals(int index, String other) {
+        return other.length() == lengths[index] && source.regionMatches(starts[index], other, 0, lengths[index]);
+    }
+
+    public void appendTo(int index, StringBuilder sb) {
+        sb.append(source, starts[index], starts[index] + lengths[index]);
+    }
+
+    // 기존 API 호환용: 필요한 시점에만 Token 객체 생성
+    public Token getToken(int index) {
+        return new Token(getType(index), source, starts[index], lengths[index], getLine(index), getColumn(index));
+    }
+
+    public List<Token> toTokenList() {
+        List<Token> tokens = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tokens.add(getToken(i));
+        }
+        return tokens;
+    }
+
+    // offset을 포함하는 줄의 인덱스 (0부터)
+    private int lineIndexOf(int offset) {
+        int low = 0;
+        int high = lineCount - 1;
+
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (lineStarts[mid] <= offset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+}
@@ -21,6 +21,8 @@ public enum TokenType {
 
     ASSIGN, PLUS, MINUS, STAR, SLASH, PERCENT,
 
+    STRING_LITERAL, CHAR_LITERAL, NUMBER_LITERAL,
+
     WHITESPACE, NEWLINE, COMMENT,
 
     EOF, UNKNOWN
@@ -1,62 +1,118 @@
 package SourceParser.Tokenizer;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class Tokenizer {
     private final String source;
     private int position;
-    private int line;
-    private int column;
-    private final List<Token> tokens;
+    private final TokenBuffer buffer;
+    private final boolean skipBodies;
+
+    // 괄호 종류별로 따로 짝을 맞춤 (종류별로 깊이를 세던 기존 건너뛰기와 같은 결과)
+    private final BracketStack parens;
+    private final BracketStack braces;
+    private final BracketStack brackets;
 
     public Tokenizer(String source) {
+        this(source, false);
+    }
+
+    // skipBodies: 메서드/생성자 본문은 { } 토큰만 남기고 내용은 토큰으로 만들지 않음
+    public Tokenizer(String source, boolean skipBodies) {
         this.source = source;
-        this.tokens = new ArrayList<>();
+        this.skipBodies = skipBodies;
+        this.buffer = new TokenBuffer(source);
         this.position = 0;
-        this.line = 1;
-        this.column = 1;
+        this.parens = new BracketStack();
+        this.braces = new BracketStack();
+        this.brackets = new BracketStack();
     }
 
     public List<Token> tokenize() {
+        return tokenizeToBuffer().toTokenList();
+    }
+
+    public TokenBuffer tokenizeToBuffer() {
         while (!isAtEnd()) {
             tokenizeNext();
         }
-        tokens.add(new Token(TokenType.EOF, "", line, column));
-        return tokens;
+        buffer.add(TokenType.EOF, position, 0);
+
+        // 닫히지 않은 괄호는 EOF와 연결
+        int eof = buffer.size() - 1;
+        for (BracketStack stack : new BracketStack[]{parens, braces, brackets}) {
+            while (!stack.isEmpty()) {
+                buffer.setMatch(stack.pop(), eof);
+            }
+        }
+        return buffer;
     }
 
     private void tokenizeNext() {
         char c = nextChar();
 
         switch (c) {
-            case '(': addToken(TokenType.LPAREN, "("); break;
-            case ')': addToken(TokenType.RPAREN, ")"); break;
-            case '{': addToken(TokenType.LBRACE, "{"); break;
-            case '}': addToken(TokenType.RBRACE, "}"); break;
-            case '[': addToken(TokenType.LBRACKET, "["); break;
-            case ']': addToken(TokenType.RBRACKET, "]"); break;
-            case '<': addToken(TokenType.LT, "<"); break;
-            case '>': addToken(TokenType.GT, ">"); break;
-            case ',': addToken(TokenType.COMMA, ","); break;
-            case ';': addToken(TokenType.SEMICOLON, ";"); break;
-            case ':': addToken(TokenType.COLON, ":"); break;
-            case '+': addToken(TokenType.PLUS, "+"); break;
-            case '-': addToken(TokenType.MINUS, "-"); break;
-            case '*': addToken(TokenType.STAR, "*"); break;
-            case '%': addToken(TokenType.PERCENT, "%"); break;
-            case '=': addToken(TokenType.ASSIGN, "="); break;
-            case '/': addToken(TokenType.SLASH, "/"); break;
-            case '?': addToken(TokenType.QUESTION, "?"); break;
-            case '@': addToken(TokenType.AT, "@"); break;
+            case '(': addOpen(TokenType.LPAREN, parens); break;
+            case ')': addClose(TokenType.RPAREN, parens); break;
+            case '{':
+                addOpen(TokenType.LBRACE, braces);
+                if (skipBodies && braces.size() == 2 && isAfterMethodSignature()) {
+                    skipBody();
+                }
+                break;
+            case '}': addClose(TokenType.RBRACE, braces); break;
+            case '[': addOpen(TokenType.LBRACKET, brackets); break;
+            case ']': addClose(TokenType.RBRACKET, brackets); break;
+            case '<': addToken(TokenType.LT, 1); break;
+            case '>': addToken(TokenType.GT, 1); break;
+            case ',': addToken(TokenType.COMMA, 1); break;
+            case ';': addToken(TokenType.SEMICOLON, 1); break;
+            case ':': addToken(TokenType.COLON, 1); break;
+            case '+': addToken(TokenType.PLUS, 1); break;
+            case '-': addToken(TokenType.MINUS, 1); break;
+            case '*': addToken(TokenType.STAR, 1); break;
+            case '%': addToken(TokenType.PERCENT, 1); break;
+            case '=': addToken(TokenType.ASSIGN, 1); break;
+            case '/':
+                if (peek() == '/') {
+                    skipLineComment();
+                } else if (peek() == '*') {
+                    skipBlockComment();
+                } else {
+                    addToken(TokenType.SLASH, 1);
+                }
+                break;
+
+            case '"': {
+                int start = position - 1;
+                if (peek() == '"' && peekNext() == '"') {
+                    skipTextBlock();
+                } else {
+                    skipQuoted('"');
+                }
+                buffer.add(TokenType.STRING_LITERAL, start, position - start);
+                break;
+            }
+
+            case '\'': {
+                int start = position - 1;
+                skipQuoted('\'');
+                buffer.add(TokenType.CHAR_LITERAL, start, position - start);
+                break;
+            }
+            case '?': addToken(TokenType.QUESTION, 1); break;
+            case '@': addToken(TokenType.AT, 1); break;
 
             case '.':
-                if (peek() == '.' && peekNext() == '.') {
-                    addToken(TokenType.VARARGS, "...");
+                if (isDigit(peek())) {
+                    tokenizeNumber();
+                } else if (peek() == '.' && peekNext() == '.') {
                     nextChar();
                     nextChar();
+                    addToken(TokenType.VARARGS, 3);
                 } else {
-                    addToken(TokenType.DOT, ".");
+                    addToken(TokenType.DOT, 1);
                 }
                 break;
 
@@ -68,15 +124,16 @@ public class Tokenizer {
                 break;
 
             case '\n':
-                line++;
-                column = 1;
+                buffer.addLineStart(position);
                 break;
 
             default:
                 if (isChar(c)) {
                     tokenizeWord();
+                } else if (isDigit(c)) {
+                    tokenizeNumber();
                 } else {
-                    addToken(TokenType.UNKNOWN, String.valueOf(c));
+                    addToken(TokenType.UNKNOWN, 1);
                 }
                 break;
         }
@@ -84,16 +141,103 @@ public class Tokenizer {
 
     private void tokenizeWord() {
         int start = position - 1;
-        int startColumn = column - 1;
 
         while (!isAtEnd() && isCharNumber(peek())) {
             nextChar();
         }
 
-        String word = source.substring(start, position);
-        TokenType type = KeywordMap.getType(word);
+        int length = position - start;
+        TokenType type = KeywordMap.getType(source, start, length);
+
+        buffer.add(type, start, length);
+    }
+
+    // 123, 1_000L, 0x1F, 3.14f, 1e-5, .5 등을 하나의 토큰으로
+    private void tokenizeNumber() {
+        int start = position - 1;
+
+        while (!isAtEnd()) {
+            char c = peek();
+            char previous = source.charAt(position - 1);
+
+            if (isCharNumber(c)) {
+                nextChar();
+            } else if (c == '.' && isDigit(peekNext())) {
+                nextChar();
+            } else if ((c == '+' || c == '-') && isExponentMarker(previous, start)) {
+                nextChar();
+            } else {
+                break;
+            }
+        }
+
+        buffer.add(TokenType.NUMBER_LITERAL, start, position - start);
+    }
+
+    // 지수 부호 앞의 e/E (16진수는 p/P)
+    private boolean isExponentMarker(char c, int numberStart) {
+        boolean hex = position - numberStart > 1
+                && source.charAt(numberStart) == '0'
+                && (source.charAt(numberStart + 1) == 'x' || source.charAt(numberStart + 1) == 'X');
+        if (hex) {
+            return c == 'p' || c == 'P';
+        }
+        return c == 'e' || c == 'E';
+    }
+
+    // '//' 이후 줄 끝까지 (줄바꿈 문자는 남겨 둠)
+    private void skipLineComment() {
+        while (!isAtEnd() && peek() != '\n') {
+            position++;
+        }
+    }
+
+    // '/*' 이후 '*/'까지
+    private void skipBlockComment() {
+        position++;
+
+        while (!isAtEnd()) {
+            char c = nextCharTrackingLines();
+            if (c == '*' && peek() == '/') {
+                position++;
+                return;
+            }
+        }
+    }
+
+    // 여는 따옴표 이후 닫는 따옴표까지 (닫히지 않으면 줄 끝에서 멈춤)
+    private void skipQuoted(char quote) {
+        while (!isAtEnd() && peek() != '\n') {
+            char c = nextChar();
+            if (c == '\\' && !isAtEnd() && peek() != '\n') {
+                nextChar();
+            } else if (c == quote) {
+                return;
+            }
+        }
+    }
+
+    // 여는 '"""' 중 첫 따옴표 이후 닫는 '"""'까지
+    private void skipTextBlock() {
+        position += 2;
 
-        tokens.add(new Token(type, word, line, startColumn));
+        while (!isAtEnd()) {
+            char c = nextCharTrackingLines();
+            if (c == '\\' && !isAtEnd()) {
+                nextCharTrackingLines();
+            } else if (c == '"' && peek() == '"' && peekNext() == '"') {
+                position += 2;
+                return;
+            }
+        }
+    }
+
+    private char nextCharTrackingLines() {
+        char c = nextChar();
+        if (c == '\n') {
+            buffer.addLineStart(position);
+        }
+        return c;
     }
 
     private char peek() {
@@ -111,19 +255,108 @@ public class Tokenizer {
     }
 
     private char nextChar() {
-        column++;
         return source.charAt(position++);
     }
 
     private boolean isChar(char c) {
-        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == '$'
+                || (c > 0x7F && Character.isJavaIdentifierStart(c));
+    }
+
+    private boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
     }
 
     private boolean isCharNumber(char c) {
-        return isChar(c) || (c >= '0' && c <= '9');
+        return isChar(c) || isDigit(c) || (c > 0x7F && Character.isJavaIdentifierPart(c));
+    }
+
+    // 방금 읽은 length 글자를 가리키는 토큰 추가
+    private void addToken(TokenType type, int length) {
+        buffer.add(type, position - length, length);
     }
 
-    private void addToken(TokenType type, String value) {
-        tokens.add(new Token(type, value, line, column-value.length()));
+    // 클래스 본문 안에서 "...) {" 또는 "...) throws A, B {" 형태인지 확인
+    private boolean isAfterMethodSignature() {
+        for (int i = buffer.size() - 2; i >= 0; i--) {
+            TokenType type = buffer.getType(i);
+
+            if (type == TokenType.RPAREN) {
+                return i == buffer.size() - 2;
+            }
+            if (type == TokenType.THROWS) {
+                return true;
+            }
+            if (type != TokenType.UNKNOWN && type != TokenType.DOT && type != TokenType.COMMA) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    // 본문 내용을 토큰 없이 건너뛰고, 닫는 '}'는 평소처럼 토큰화되도록 남겨 둠
+    // (주석과 문자열/문자 리터럴 안의 중괄호는 세지 않음)
+    private void skipBody() {
+        int depth = 1;
+
+        while (!isAtEnd()) {
+            char c = peek();
+
+            if (c == '}' && depth == 1) {
+                return;
+            }
+
+            nextCharTrackingLines();
+            if (c == '{') {
+                depth++;
+            } else if (c == '}') {
+                depth--;
+            } else if (c == '/' && peek() == '/') {
+                skipLineComment();
+            } else if (c == '/' && peek() == '*') {
+                skipBlockComment();
+            } else if (c == '"' && peek() == '"' && peekNext() == '"') {
+                skipTextBlock();
+            } else if (c == '"' || c == '\'') {
+                skipQuoted(c);
+            }
+        }
+    }
+
+    private void addOpen(TokenType type, BracketStack stack) {
+        stack.push(buffer.size());
+        addToken(type, 1);
+    }
+
+    private void addClose(TokenType type, BracketStack stack) {
+        int close = buffer.size();
+        addToken(type, 1);
+        if (!stack.isEmpty()) {
+            buffer.setMatch(stack.pop(), close);
+        }
+    }
+
+    private static class BracketStack {
+        private int[] items = new int[16];
+        private int size;
+
+        void push(int index) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = index;
+        }
+
+        int pop() {
+            return items[--size];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int size() {
+            return size;
+        }
     }
 }
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ClassParserTest {
 
@@ -72,6 +73,26 @@ public class ClassParserTest {
         assertEquals(classInfo.getImports().get(1), "SourceParser.Tokenizer.TokenType");
     }
 
+    @Test
+    @DisplayName("클래스 파싱 : static / 와일드카드 임포트 파싱 검증")
+    public void testParseStaticAndWildcardImports() {
+        String code = """
+                import java.util.*;
+                import static org.junit.jupiter.api.Assertions.assertEquals;
+                import static java.lang.Math.*;
+
+                public class ImportSample {}
+                """;
+
+        ClassInfo classInfo = new Parser(new Lexer(code)).getClassInfo();
+
+        assertEquals(List.of(
+                "java.util.*",
+                "static org.junit.jupiter.api.Assertions.assertEquals",
+                "static java.lang.Math.*"
+        ), classInfo.getImports());
+    }
+
     @Test
     @DisplayName("클래스 파싱 : 임포트 목록 파싱 검증")
     public void testParseClassName() {
@@ -162,4 +183,43 @@ public class ClassParserTest {
         assertEquals(methodInfos.get(1).toString(), "private int getNumber()");
         assertEquals(methodInfos.get(2).toString(), "public List<String> getList()");
     }
+
+    @Test
+    @DisplayName("클래스 파싱 : 시그니처 전용 모드는 본문을 건너뛰고 같은 시그니처를 반환")
+    public void testParseSignaturesOnly() {
+        String code = """
+                package com.example;
+
+                public class UserService {
+                    private int[] ids = {1, 2};
+
+                    public UserService(UserRepository repository) {
+                        this.repository = repository;
+                    }
+
+                    public List<User> findAll() throws IOException, SQLException {
+                        if (cache.isEmpty()) { cache.load(); }
+                        return repository.findAll();
+                    }
+
+                    public void save(User user) {
+                        repository.save(user);
+                    }
+                }
+                """;
+
+        ClassInfo full = new Parser(new Lexer(code)).getClassInfo();
+        ClassInfo signatures = new Parser(new Lexer(code, true), true).getClassInfo();
+
+        assertEquals(2, signatures.getMethods().size());
+        for (int i = 0; i < full.getMethods().size(); i++) {
+            MethodInfo expected = full.getMethods().get(i);
+            MethodInfo actual = signatures.getMethods().get(i);
+
+            assertEquals(expected.toString(), actual.toString());
+            assertEquals(expected.getLineNumber(), actual.getLineNumber());
+            assertTrue(actual.getMethodCalls().isEmpty());
+        }
+        assertEquals(3, full.getMethods().get(0).getMethodCalls().size());
+    }
 }
@@ -0,0 +1,286 @@
+import Analyzer.DependencyResolver;
+import Analyzer.ImpactReport;
+import Analyzer.Graph.CompactBitSet;
+import Analyzer.Graph.CycleReport;
+import Analyzer.Graph.DependencyGraph;
+import Analyzer.Graph.Reachability;
+import Analyzer.Graph.StronglyConnectedComponents;
+import SourceParser.Model.ClassInfo;
+import SourceParser.Model.MethodCall;
+import SourceParser.Model.MethodInfo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class DependencyGraphTest {
+
+    @Test
+    @DisplayName("CSR 그래프 - 정방향/역방향 이웃과 차수")
+    public void testFromAdjacency() {
+        ClassInfo[] nodes = {
+                createClass("a", "A"), createClass("a", "B"), createClass("a", "C"), createClass("a", "D")
+        };
+        int[][] adjacency = {
+                {2, 1, 1, 0},   // 중복과 자기 자신은 제거
+                {2},
+                {},
+                {0, 2}
+        };
+
+        DependencyGraph graph = DependencyGraph.fromAdjacency(nodes, adjacency);
+
+        assertEquals(4, graph.getNodeCount());
+        assertEquals(5, graph.getEdgeCount());
+        assertArrayEquals(new int[]{1, 2}, graph.getSuccessors(0));
+        assertArrayEquals(new int[]{0, 1, 3}, graph.getPredecessors(2));
+        assertEquals(2, graph.getFanOut(0));
+        assertEquals(0, graph.getFanOut(2));
+        assertEquals(3, graph.getFanIn(2));
+        assertEquals(0, graph.getFanIn(3));
+        assertEquals(3, graph.getPredecessor(2, 2));
+        assertEquals(2, graph.getSuccessor(3, 1));
+
+        List<Integer> visited = new ArrayList<>();
+        graph.forEachPredecessor(0, visited::add);
+        assertEquals(List.of(3), visited);
+
+        assertEquals(1, graph.getId("a.B"));
+        assertEquals(-1, graph.getId("a.Missing"));
+    }
+
+    @Test
+    @DisplayName("CSR 그래프 - 잘못된 클래스 ID")
+    public void testInvalidAdjacency() {
+        ClassInfo[] nodes = {createClass("a", "A")};
+
+        assertThrows(IllegalArgumentException.class,
+                () -> DependencyGraph.fromAdjacency(nodes, new int[][]{{1}}));
+        assertThrows(IllegalArgumentException.class,
+                () -> DependencyGraph.fromAdjacency(nodes, new int[0][]));
+    }
+
+    @Test
+    @DisplayName("의존성 분석 결과 그래프 - 프로젝트 내부 클래스 사이 간선만 포함")
+    public void testResolverBuildsGraph() {
+        ClassInfo service = createClass("com.example.service", "OrderService");
+        service.getImports().add("com.example.repository.OrderRepository");
+        service.getImports().add("org.slf4j.Logger");
+        service.setExtendsClass("BaseService");
+        ClassInfo repository = createClass("com.example.repository", "OrderRepository");
+        ClassInfo base = createClass("com.example.service", "BaseService");
+        ClassInfo otherRepository = createClass("com.example.legacy", "OrderRepository");
+
+        MethodInfo method = new MethodInfo();
+        method.setMethodName("place");
+        method.getMethodCalls().add(new MethodCall("orderRepository", "save", 5));
+        method.getMethodCalls().add(new MethodCall("logger", "info", 6));
+        service.getMethods().add(method);
+
+        DependencyResolver resolver = new DependencyResolver();
+        resolver.resolveDependencies(List.of(service, repository, base, otherRepository));
+        DependencyGraph graph = resolver.getDependencyGraph();
+
+        assertEquals(4, graph.getNodeCount());
+        assertEquals(2, graph.getEdgeCount());
+        assertArrayEquals(new int[]{1, 2}, graph.getSuccessors(0));
+        assertEquals(0, graph.getFanIn(3));
+        assertSame(repository, graph.getClassInfo(graph.getSuccessor(0, 0)));
+        assertTrue(service.getDependencies().contains("Logger"));
+    }
+
+    @Test
+    @DisplayName("SCC - 순환 묶음과 자기 참조")
+    public void testStronglyConnectedComponents() {
+        // 0 → 1 → 2 → 0,  2 → 3,  3 → 4 → 3,  5 → 5,  6 단독
+        int[] offsets = {0, 1, 2, 4, 5, 6, 7, 7};
+        int[] targets = {1, 2, 0, 3, 4, 3, 5};
+
+        StronglyConnectedComponents scc = StronglyConnectedComponents.compute(7, offsets, targets);
+        List<int[]> cycles = scc.getCycles();
+
+        assertEquals(4, scc.getComponentCount());
+        assertEquals(3, cycles.size());
+        assertArrayEquals(new int[]{0, 1, 2}, cycles.get(0));
+        assertArrayEquals(new int[]{3, 4}, cycles.get(1));
+        assertArrayEquals(new int[]{5}, cycles.get(2));
+        assertEquals(scc.getComponent(0), scc.getComponent(2));
+        assertNotEquals(scc.getComponent(2), scc.getComponent(3));
+        assertFalse(scc.isCyclic(6));
+    }
+
+    @Test
+    @DisplayName("SCC - 깊은 그래프에서도 스택 오버플로 없음")
+    public void testStronglyConnectedComponentsDeepGraph() {
+        int nodeCount = 200_000;
+        int[] offsets = new int[nodeCount + 1];
+        int[] targets = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            offsets[node + 1] = node + 1;
+            targets[node] = (node + 1) % nodeCount;  // 하나의 큰 고리
+        }
+
+        StronglyConnectedComponents scc = StronglyConnectedComponents.compute(nodeCount, offsets, targets);
+
+        assertEquals(1, scc.getComponentCount());
+        assertEquals(nodeCount, scc.getCycles().get(0).length);
+    }
+
+    @Test
+    @DisplayName("순환 보고서 - 클래스 순환과 패키지 순환")
+    public void testCycleReport() {
+        ClassInfo order = createClass("com.example.order", "Order");
+        ClassInfo orderItem = createClass("com.example.order", "OrderItem");
+        ClassInfo member = createClass("com.example.member", "Member");
+        ClassInfo util = createClass(null, "Util");
+
+        // Order ⇄ OrderItem (같은 패키지), OrderItem → Member → Order (패키지 순환), Member → Util
+        int[][] adjacency = {{1}, {0, 2}, {0, 3}, {}};
+        DependencyGraph graph = DependencyGraph.fromAdjacency(
+                new ClassInfo[]{order, orderItem, member, util}, adjacency);
+
+        CycleReport report = CycleReport.detect(graph);
+
+        assertTrue(report.hasCycles());
+        assertEquals(List.of(List.of("com.example.order.Order", "com.example.order.OrderItem",
+                "com.example.member.Member")), report.getClassCycles());
+        assertEquals(List.of(List.of("com.example.order", "com.example.member")), report.getPackageCycles());
+    }
+
+    @Test
+    @DisplayName("CompactBitSet - 배열/비트맵 구간 전환과 합집합")
+    public void testCompactBitSet() {
+        CompactBitSet small = new CompactBitSet();
+        small.add(3);
+        small.add(70_000);      // 다른 구간
+        small.add(3);
+
+        CompactBitSet large = new CompactBitSet();
+        for (int value = 0; value < 10_000; value += 2) {
+            large.add(value);   // 4096개를 넘어 비트맵으로 전환
+        }
+
+        assertTrue(small.contains(70_000));
+        assertFalse(small.contains(69_999));
+        assertFalse(small.contains(-1));
+        assertEquals(2, small.cardinality());
+        assertEquals(5_000, large.cardinality());
+
+        large.or(small);
+        assertEquals(5_002, large.cardinality());
+        assertTrue(large.contains(3));
+        assertTrue(large.contains(9_998));
+        assertEquals(70_000, large.toArray()[5_001]);
+        assertEquals(2, small.cardinality());   // 인자는 변경되지 않음
+
+        assertThrows(IllegalArgumentException.class, () -> small.add(-1));
+    }
+
+    @Test
+    @DisplayName("전이 폐포 - 순환이 있는 그래프에서 BFS 결과와 일치")
+    public void testReachability() {
+        int nodeCount = 300;
+        Random random = new Random(42);
+        ClassInfo[] nodes = new ClassInfo[nodeCount];
+        int[][] adjacency = new int[nodeCount][];
+        for (int id = 0; id < nodeCount; id++) {
+            nodes[id] = createClass("p" + (id % 7), "C" + id);
+            adjacency[id] = new int[random.nextInt(3)];
+            for (int i = 0; i < adjacency[id].length; i++) {
+                adjacency[id][i] = random.nextInt(nodeCount);
+            }
+        }
+        DependencyGraph graph = DependencyGraph.fromAdjacency(nodes, adjacency);
+
+        Reachability reachability = Reachability.compute(graph);
+
+        for (int id = 0; id < nodeCount; id++) {
+            boolean[] reached = bfs(graph, id, false);
+            boolean[] reachedBy = bfs(graph, id, true);
+            int dependencyCount = 0;
+            int dependentCount = 0;
+            for (int other = 0; other < nodeCount; other++) {
+                if (other != id && reached[other]) dependencyCount++;
+                if (other != id && reachedBy[other]) dependentCount++;
+                assertEquals(reached[other], reachability.dependsOn(id, other), id + " → " + other);
+            }
+            assertEquals(dependencyCount, reachability.getTransitiveDependencyCount(id));
+            assertEquals(dependentCount, reachability.getTransitiveDependentCount(id));
+            assertEquals(dependencyCount, reachability.getTransitiveDependencies(id).cardinality());
+            assertEquals(dependentCount, reachability.getTransitiveDependents(id).cardinality());
+        }
+    }
+
+    @Test
+    @DisplayName("영향 분석 - 변경 파일의 클래스와 직접/간접 의존 클래스")
+    public void testImpactReport() {
+        // Controller → Service → Repository, Report → Repository, Util → Helper (분석 결과에 없음)
+        ClassInfo repository = createClass("com.example", "Repository");
+        ClassInfo service = createClass("com.example", "Service");
+        ClassInfo controller = createClass("com.example", "Controller");
+        ClassInfo report = createClass("com.example", "Report");
+        ClassInfo util = createClass("com.example", "Util");
+        addCall(service, "repository");
+        addCall(controller, "service");
+        addCall(report, "repository");
+        addCall(util, "helper");
+
+        List<ClassInfo> classes = List.of(repository, service, controller, report, util);
+        for (ClassInfo classInfo : classes) {
+            classInfo.setFilePath("/project/src/com/example/" + classInfo.getClassName() + ".java");
+        }
+        DependencyResolver resolver = new DependencyResolver();
+        resolver.resolveDependencies(classes);
+
+        ImpactReport impact = ImpactReport.analyze(resolver.getDependencyGraph(),
+                List.of("/project/src/com/example/./Service.java", "/project/README.md"));
+
+        assertEquals(List.of(service), impact.getChangedClasses());
+        assertEquals(List.of(controller, service), impact.getAffectedClasses());
+        assertTrue(impact.getUnmatchedFiles().isEmpty());
+
+        // 삭제된 파일: 그 클래스명에 의존하는 클래스부터 따라감
+        ImpactReport deleted = ImpactReport.analyze(resolver.getDependencyGraph(),
+                List.of("/project/src/com/example/Helper.java", "/project/src/com/example/Repository.java"));
+
+        assertEquals(List.of("/project/src/com/example/Helper.java"), deleted.getUnmatchedFiles());
+        assertEquals(List.of(controller, report, repository, service, util), deleted.getAffectedClasses());
+        assertEquals(List.of(repository), deleted.getChangedClasses());
+    }
+
+    private void addCall(ClassInfo classInfo, String target) {
+        MethodInfo method = new MethodInfo();
+        method.setMethodName("run");
+        method.getMethodCalls().add(new MethodCall(target, "run", 0, 5));
+        classInfo.getMethods().add(method);
+    }
+
+    // 한 간선 이상 거쳐 도달하는 노드 (자기 자신은 순환일 때만)
+    private boolean[] bfs(DependencyGraph graph, int start, boolean reverse) {
+        boolean[] reached = new boolean[graph.getNodeCount()];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int next : reverse ? graph.getPredecessors(node) : graph.getSuccessors(node)) {
+                if (!reached[next]) {
+                    reached[next] = true;
+                    queue.add(next);
+                }
+            }
+        }
+        return reached;
+    }
+
+    private ClassInfo createClass(String packageName, String className) {
+        ClassInfo classInfo = new ClassInfo();
+        classInfo.setPackageName(packageName);
+        classInfo.setClassName(className);
+        return classInfo;
+    }
+}
@@ -1,8 +1,13 @@
 
 import Analyzer.DependencyResolver;
+import Analyzer.Graph.DependencyGraph;
+import Analyzer.Graph.MethodCallGraph;
+import Analyzer.ResolutionCache;
+import Analyzer.SymbolTable;
 import SourceParser.Model.ClassInfo;
 import SourceParser.Model.MethodCall;
 import SourceParser.Model.MethodInfo;
+import SourceParser.Model.Parameter;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -10,7 +15,10 @@ import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
 
 public class DependencyResolverTest {
 
@@ -142,4 +150,438 @@ public class DependencyResolverTest {
         assertTrue(classInfo.getDependencies().contains("UserRepository"));
         assertFalse(classInfo.getDependencies().contains("UserService"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("의존성 분석 - 같은 패키지에서 해결")
+    public void testResolveFromSamePackage() {
+        ClassInfo service = createClass("com.example.service", "OrderService");
+        ClassInfo validator = createClass("com.example.service", "OrderValidator");
+
+        MethodInfo method = new MethodInfo();
+        method.setMethodName("place");
+        method.getMethodCalls().add(new MethodCall("orderValidator", "validate", 5));
+        service.getMethods().add(method);
+
+        resolver.resolveDependencies(List.of(service, validator));
+
+        assertEquals(List.of("OrderValidator"), service.getDependencies());
+    }
+
+    @Test
+    @DisplayName("심볼 테이블 - 단순 이름이 같은 클래스를 패키지별로 구분")
+    public void testSymbolTableKeepsSameSimpleName() {
+        ClassInfo orderUser = createClass("com.example.order", "User");
+        ClassInfo memberUser = createClass("com.example.member", "User");
+        ClassInfo noPackage = createClass(null, "Main");
+
+        resolver.resolveDependencies(List.of(orderUser, memberUser, noPackage));
+        SymbolTable symbolTable = resolver.getSymbolTable();
+
+        assertEquals(3, symbolTable.size());
+        assertSame(orderUser, symbolTable.find("com.example.order", "User"));
+        assertSame(memberUser, symbolTable.find("com.example.member", "User"));
+        assertSame(memberUser, symbolTable.findByQualifiedName("com.example.member.User"));
+        assertSame(noPackage, symbolTable.findByQualifiedName("Main"));
+        assertNull(symbolTable.find("com.example.order", "Main"));
+    }
+
+    @Test
+    @DisplayName("의존성 분석 - 와일드카드 Import에서 해결")
+    public void testResolveFromWildcardImport() {
+        ClassInfo service = createClass("com.example.service", "OrderService");
+        service.getImports().add("com.example.model.*");
+        service.setExtendsClass("AuditedEntity");
+        ClassInfo order = createClass("com.example.model", "Order");
+        ClassInfo audited = createClass("com.example.model", "AuditedEntity");
+
+        MethodInfo method = new MethodInfo();
+        method.setMethodName("place");
+        method.getMethodCalls().add(new MethodCall("order", "validate", 5));
+        service.getMethods().add(method);
+
+        resolver.resolveDependencies(List.of(service, order, audited));
+
+        assertTrue(service.getDependencies().contains("Order"));
+        assertTrue(service.getDependencies().contains("AuditedEntity"));
+    }
+
+    @Test
+    @DisplayName("의존성 분석 - static Import 메서드 호출")
+    public void testResolveFromStaticImport() {
+        ClassInfo service = createClass("com.example.service", "OrderService");
+        service.getImports().add("static com.example.util.Preconditions.checkNotNull");
+        service.getImports().add("static com.example.util.Strings.*");
+        ClassInfo strings = createClass("com.example.util", "Strings");
+
+        MethodInfo isBlank = new MethodInfo();
+        isBlank.setMethodName("isBlank");
+        strings.getMethods().add(isBlank);
+
+        MethodInfo method = new MethodInfo();
+        method.setMethodName("place");
+        method.getMethodCalls().add(new MethodCall(null, "checkNotNull", 5));
+        method.getMethodCalls().add(new MethodCall(null, "isBlank", 6));
+        method.getMethodCalls().add(new MethodCall(null, "place", 7));
+        service.getMethods().add(method);
+
+        resolver.resolveDependencies(List.of(service, strings));
+
+        assertEquals(2, service.getDependencies().size());
+        assertTrue(service.getDependencies().contains("Preconditions"));
+        assertTrue(service.getDependencies().contains("Strings"));
+    }
+
+    @Test
+    @DisplayName("의존성 분석 - 클래스에 선언된 메서드가 static Import보다 우선")
+    public void testDeclaredMethodShadowsStaticImport() {
+        ClassInfo service = createClass("com.example.service", "OrderService");
+        service.getImports().add("static com.example.util.Preconditions.checkNotNull");
+
+        MethodInfo checkNotNull = new MethodInfo();
+        checkNotNull.setMethodName("checkNotNull");
+        MethodInfo method = new MethodInfo();
+        method.setMethodName("place");
+        method.getMethodCalls().add(new MethodCall(null, "checkNotNull", 5));
+        service.getMethods().add(checkNotNull);
+        service.getMethods().add(method);
+
+        resolver.resolveDependencies(List.of(service));
+
+        assertTrue(service.getDependencies().isEmpty());
+    }
+
+    @Test
+    @DisplayName("해결 캐시 - 패키지와 import 목록이 같은 클래스끼리 공유")
+    public void testResolutionCacheSharedAcrossClasses() {
+        ClassInfo first = createClass("com.example.service", "OrderService");
+        first.getImports().add("com.example.repository.UserRepository");
+        first.getImports().add("org.slf4j.Logger");
+        ClassInfo second = createClass("com.example.service", "PaymentService");
+        second.getImports().add("org.slf4j.Logger");
+        second.getImports().add("com.example.repository.UserRepository");
+        ClassInfo otherPackage = createClass("com.example.web", "OrderController");
+        otherPackage.getImports().add("com.example.repository.UserRepository");
+
+        for (ClassInfo classInfo : List.of(first, second, otherPackage)) {
+            MethodInfo method = new MethodInfo();
+            method.setMethodName("run");
+            method.getMethodCalls().add(new MethodCall("userRepository", "findAll", 5));
+            method.getMethodCalls().add(new MethodCall("userRepository", "save", 6));
+            classInfo.getMethods().add(method);
+        }
+
+        resolver.resolveDependencies(List.of(first, second, otherPackage));
+        ResolutionCache cache = resolver.getResolutionCache();
+
+        assertEquals(2, cache.getMissCount());
+        assertEquals(4, cache.getHitCount());
+        assertEquals(List.of("UserRepository"), second.getDependencies());
+        assertEquals(List.of("UserRepository"), otherPackage.getDependencies());
+
+        // 증분 분석은 캐시 항목만 비우고 적중/실패 수는 누적 (다시 분석한 호출만큼 더해짐)
+        ClassInfo updated = createClass("com.example.service", "PaymentService");
+        updated.getImports().addAll(second.getImports());
+        updated.getMethods().addAll(second.getMethods());
+        resolver.updateClass(updated);
+        assertTrue(cache.getMissCount() > 2);
+        assertTrue(cache.getHitCount() > 4);
+
+        // 전체 분석을 다시 하면 처음부터 집계
+        resolver.resolveDependencies(List.of(first, updated, otherPackage));
+        assertEquals(2, cache.getMissCount());
+        assertEquals(4, cache.getHitCount());
+    }
+
+    @Test
+    @DisplayName("해결 캐시 - 크기 제한을 넘으면 저장하지 않음")
+    public void testResolutionCacheBounded() {
+        DependencyResolver boundedResolver = new DependencyResolver(1);
+        ClassInfo classInfo = createClass("com.example.service", "OrderService");
+
+        MethodInfo method = new MethodInfo();
+        method.setMethodName("run");
+        method.getMethodCalls().add(new MethodCall("orderRepository", "save", 5));
+        method.getMethodCalls().add(new MethodCall("paymentClient", "charge", 6));
+        method.getMethodCalls().add(new MethodCall("paymentClient", "refund", 7));
+        classInfo.getMethods().add(method);
+
+        boundedResolver.resolveDependencies(List.of(classInfo));
+        ResolutionCache cache = boundedResolver.getResolutionCache();
+
+        // 가득 찬 뒤의 이름은 저장되지 않아 계속 miss (paymentClient 두 번 모두 거부)
+        assertEquals(1, cache.size());
+        assertEquals(3, cache.getMissCount());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getRejectedCount());
+        assertTrue(classInfo.getDependencies().contains("PaymentClient"));
+        assertTrue(classInfo.getDependencies().contains("OrderRepository"));
+    }
+
+    @Test
+    @DisplayName("병렬 의존성 분석 - 순차 분석과 같은 결과")
+    public void testParallelResolutionMatchesSequential() {
+        List<ClassInfo> sequentialClasses = createProject(1000);
+        List<ClassInfo> parallelClasses = createProject(1000);
+
+        DependencyResolver sequential = new DependencyResolver();
+        sequential.setThreadCount(1);
+        sequential.resolveDependencies(sequentialClasses);
+
+        DependencyResolver parallel = new DependencyResolver();
+        parallel.setThreadCount(4);
+        parallel.resolveDependencies(parallelClasses);
+
+        for (int i = 0; i < sequentialClasses.size(); i++) {
+            assertEquals(sequentialClasses.get(i).getDependencies(), parallelClasses.get(i).getDependencies());
+        }
+        assertEquals(sequential.getResolutionCache().getHitCount() + sequential.getResolutionCache().getMissCount(),
+                parallel.getResolutionCache().getHitCount() + parallel.getResolutionCache().getMissCount());
+        assertThrows(IllegalArgumentException.class, () -> parallel.setThreadCount(0));
+    }
+
+    @Test
+    @DisplayName("의존성 분석 - 메서드 호출 그래프 없이도 클래스 의존성은 같음")
+    public void testResolutionWithoutMethodCallGraph() {
+        List<ClassInfo> fullClasses = createProject(200);
+        List<ClassInfo> classOnlyClasses = createProject(200);
+
+        DependencyResolver full = new DependencyResolver();
+        full.resolveDependencies(fullClasses);
+
+        DependencyResolver classOnly = new DependencyResolver();
+        classOnly.setMethodCallGraphEnabled(false);
+        classOnly.resolveDependencies(classOnlyClasses);
+
+        assertNull(classOnly.getMethodCallGraph());
+        assertTrue(full.getMethodCallGraph().getEdgeCount() > 0);
+        for (int i = 0; i < fullClasses.size(); i++) {
+            assertEquals(fullClasses.get(i).getDependencies(), classOnlyClasses.get(i).getDependencies());
+            assertArrayEquals(full.getDependencyGraph().getSuccessors(i), classOnly.getDependencyGraph().getSuccessors(i));
+        }
+    }
+
+    @Test
+    @DisplayName("호출 그래프 - 클래스, 메서드명, 인자 수로 메서드 연결")
+    public void testMethodCallGraph() {
+        ClassInfo base = createClass("com.example.repository", "BaseRepository");
+        base.getMethods().add(createMethod("flush"));
+
+        ClassInfo repository = createClass("com.example.repository", "OrderRepository");
+        repository.setExtendsClass("BaseRepository");
+        repository.getMethods().add(createMethod("find", "Long"));
+        repository.getMethods().add(createMethod("find", "Long", "boolean"));
+        repository.getMethods().add(createMethod("log", "String", "Object..."));
+
+        ClassInfo service = createClass("com.example.service", "OrderService");
+        service.getImports().add("com.example.repository.OrderRepository");
+        MethodInfo place = createMethod("place", "Long");
+        place.getMethodCalls().add(new MethodCall("orderRepository", "find", 2, 5));
+        place.getMethodCalls().add(new MethodCall("orderRepository", "log", 3, 6));
+        place.getMethodCalls().add(new MethodCall("orderRepository", "flush", 0, 7));   // 상위 클래스 메서드
+        place.getMethodCalls().add(new MethodCall(null, "place", 1, 8));                // 재귀
+        place.getMethodCalls().add(new MethodCall("logger", "info", 1, 9));             // 외부 클래스
+        place.getMethodCalls().add(new MethodCall("orderRepository", "find", 3, 10));   // 인자 수 불일치
+        service.getMethods().add(place);
+
+        resolver.resolveDependencies(List.of(base, repository, service));
+        MethodCallGraph graph = resolver.getMethodCallGraph();
+
+        // ID: flush 0, find(Long) 1, find(Long, boolean) 2, log 3, place 4
+        assertEquals(5, graph.getMethodCount());
+        assertArrayEquals(new int[]{0, 2, 3, 4}, graph.getCallees(4));
+        assertArrayEquals(new int[]{4}, graph.getCallers(2));
+        assertEquals(0, graph.getCallerCount(1));
+        assertEquals(2, graph.getOwnerClass(4));
+        assertEquals("com.example.repository.OrderRepository.find(Long, boolean)", graph.getSignature(2));
+    }
+
+    @Test
+    @DisplayName("호출 그래프 - 인자 수를 모르면 같은 이름의 오버로드 모두 연결")
+    public void testMethodCallGraphUnknownArgumentCount() {
+        ClassInfo service = createClass("com.example.service", "OrderService");
+        service.getMethods().add(createMethod("check"));
+        service.getMethods().add(createMethod("check", "String"));
+        MethodInfo place = createMethod("place");
+        place.getMethodCalls().add(new MethodCall("this", "check", 5));
+        service.getMethods().add(place);
+
+        resolver.resolveDependencies(List.of(service));
+
+        assertArrayEquals(new int[]{0, 1}, resolver.getMethodCallGraph().getCallees(2));
+    }
+
+    @Test
+    @DisplayName("증분 분석 - 추가/변경/삭제 후 결과가 전체 재분석과 같음")
+    public void testIncrementalMatchesFullRebuild() {
+        Random random = new Random(7);
+        List<ClassInfo> classes = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            classes.add(createRandomClass(random, i));
+        }
+        resolver.setThreadCount(1);
+        resolver.resolveDependencies(classes);
+
+        int nextId = 60;
+        for (int step = 0; step < 150; step++) {
+            List<ClassInfo> current = resolver.getClasses();
+            switch (step % 3) {
+                case 0 -> resolver.addClass(createRandomClass(random, nextId++));
+                case 1 -> {
+                    // 같은 FQN의 새 ClassInfo (다시 파싱한 파일)
+                    ClassInfo previous = current.get(random.nextInt(current.size()));
+                    int id = Integer.parseInt(previous.getClassName().substring(1));
+                    resolver.updateClass(createRandomClass(random, id));
+                }
+                default -> resolver.removeClass(current.get(random.nextInt(current.size())));
+            }
+            assertSameAsFullRebuild(resolver);
+        }
+    }
+
+    @Test
+    @DisplayName("증분 분석 - 관련 없는 패키지의 클래스는 다시 분석하지 않음")
+    public void testIncrementalResolvesOnlyAffectedClasses() {
+        ClassInfo order = createClass("com.example.order", "Order");
+        ClassInfo orderService = createClass("com.example.order", "OrderService");
+        ClassInfo member = createClass("com.example.member", "Member");
+        ClassInfo memberService = createClass("com.example.member", "MemberService");
+        ClassInfo report = createClass("com.example.report", "Report");
+        report.getImports().add("com.example.order.Order");
+        MethodInfo method = createMethod("print");
+        method.getMethodCalls().add(new MethodCall("order", "total", 0, 5));
+        report.getMethods().add(method);
+
+        resolver.resolveDependencies(List.of(order, orderService, member, memberService, report));
+
+        ClassInfo updatedOrder = createClass("com.example.order", "Order");
+        updatedOrder.getMethods().add(createMethod("total"));
+
+        // Order, 같은 패키지의 OrderService, Order를 import 하는 Report
+        assertEquals(3, resolver.updateClass(updatedOrder));
+        assertSame(updatedOrder, resolver.getClasses().get(0));
+        assertArrayEquals(new int[]{0}, resolver.getMethodCallGraph().getCallees(1));  // Report.print → Order.total
+        assertSameAsFullRebuild(resolver);
+
+        assertEquals(1, resolver.removeClass(member));  // 같은 패키지의 MemberService
+        assertEquals(0, resolver.removeClass(member));
+        assertEquals(List.of(updatedOrder, orderService, memberService, report), resolver.getClasses());
+        assertSameAsFullRebuild(resolver);
+    }
+
+    @Test
+    @DisplayName("증분 분석 - 상위 클래스가 바뀌면 하위 클래스를 통해 상속 메서드를 호출하는 클래스도 다시 분석")
+    public void testIncrementalInheritedCall() {
+        ClassInfo base = createClass("com.example.base", "BaseRepository");
+        base.getMethods().add(createMethod("flush"));
+        ClassInfo repository = createClass("com.example.repository", "OrderRepository");
+        repository.getImports().add("com.example.base.BaseRepository");
+        repository.setExtendsClass("BaseRepository");
+        ClassInfo service = createClass("com.example.service", "OrderService");
+        service.getImports().add("com.example.repository.OrderRepository");
+        MethodInfo place = createMethod("place");
+        place.getMethodCalls().add(new MethodCall("orderRepository", "flush", 0, 5));
+        service.getMethods().add(place);
+
+        resolver.resolveDependencies(List.of(base, repository, service));
+        assertArrayEquals(new int[]{0}, resolver.getMethodCallGraph().getCallees(1));
+
+        // OrderService는 BaseRepository를 import 하지 않지만 OrderRepository를 통해 flush()를 호출
+        ClassInfo updatedBase = createClass("com.example.base", "BaseRepository");
+        updatedBase.getMethods().add(createMethod("save"));
+        updatedBase.getMethods().add(createMethod("flush"));
+
+        assertEquals(3, resolver.updateClass(updatedBase));
+        assertArrayEquals(new int[]{1}, resolver.getMethodCallGraph().getCallees(2));
+        assertSameAsFullRebuild(resolver);
+    }
+
+    // 증분 분석 결과를 기록해 두고 같은 클래스 목록을 처음부터 분석한 결과와 비교
+    private void assertSameAsFullRebuild(DependencyResolver incremental) {
+        List<ClassInfo> classes = new ArrayList<>(incremental.getClasses());
+        List<Set<String>> dependencies = new ArrayList<>();
+        for (ClassInfo classInfo : classes) {
+            dependencies.add(new HashSet<>(classInfo.getDependencies()));
+        }
+        DependencyGraph graph = incremental.getDependencyGraph();
+        MethodCallGraph callGraph = incremental.getMethodCallGraph();
+
+        DependencyResolver full = new DependencyResolver();
+        full.setThreadCount(1);
+        full.resolveDependencies(classes);
+
+        for (int id = 0; id < classes.size(); id++) {
+            assertEquals(new HashSet<>(classes.get(id).getDependencies()), dependencies.get(id), classes.get(id).getClassName());
+            assertSame(classes.get(id), graph.getClassInfo(id));
+            assertArrayEquals(full.getDependencyGraph().getSuccessors(id), graph.getSuccessors(id), classes.get(id).getClassName());
+        }
+        assertEquals(full.getMethodCallGraph().getMethodCount(), callGraph.getMethodCount());
+        for (int id = 0; id < callGraph.getMethodCount(); id++) {
+            assertArrayEquals(full.getMethodCallGraph().getCallees(id), callGraph.getCallees(id), callGraph.getSignature(id));
+        }
+    }
+
+    // 패키지 4개, 서로 import / 와일드카드 import / 상속 / 호출하는 임의 클래스 (이름은 C<id>)
+    private ClassInfo createRandomClass(Random random, int id) {
+        ClassInfo classInfo = createClass("com.example.p" + (id % 4), "C" + id);
+        for (int i = 0; i < 2; i++) {
+            int target = random.nextInt(80);
+            classInfo.getImports().add("com.example.p" + (target % 4) + ".C" + target);
+        }
+        if (random.nextInt(3) == 0) {
+            classInfo.getImports().add("com.example.p" + random.nextInt(4) + ".*");
+        }
+        if (random.nextInt(3) == 0) {
+            classInfo.setExtendsClass("C" + random.nextInt(80));
+        }
+
+        for (int m = 0; m < 3; m++) {
+            MethodInfo method = createMethod("m" + random.nextInt(4), random.nextBoolean() ? new String[0] : new String[]{"int"});
+            for (int c = 0; c < 3; c++) {
+                int argumentCount = random.nextInt(2);
+                String methodName = "m" + random.nextInt(4);
+                switch (random.nextInt(3)) {
+                    case 0 -> method.getMethodCalls().add(new MethodCall("c" + random.nextInt(80), methodName, argumentCount, 5));
+                    case 1 -> method.getMethodCalls().add(new MethodCall("this", methodName, argumentCount, 5));
+                    default -> method.getMethodCalls().add(new MethodCall(null, methodName, argumentCount, 5));
+                }
+            }
+            classInfo.getMethods().add(method);
+        }
+        return classInfo;
+    }
+
+    // 패키지 10개에 걸쳐 서로를 호출하는 클래스들
+    private List<ClassInfo> createProject(int classCount) {
+        List<ClassInfo> classes = new ArrayList<>();
+        for (int i = 0; i < classCount; i++) {
+            ClassInfo classInfo = createClass("com.example.module" + (i % 10), "Service" + i);
+            classInfo.getImports().add("com.example.module" + ((i + 1) % 10) + ".Service" + ((i + 1) % classCount));
+            classInfo.setExtendsClass("BaseService");
+
+            MethodInfo method = new MethodInfo();
+            method.setMethodName("run");
+            method.getMethodCalls().add(new MethodCall("service" + ((i + 1) % classCount), "run", 5));
+            method.getMethodCalls().add(new MethodCall("service" + ((i + 10) % classCount), "run", 6));
+            method.getMethodCalls().add(new MethodCall("logger", "info", 7));
+            classInfo.getMethods().add(method);
+            classes.add(classInfo);
+        }
+        return classes;
+    }
+
+    private MethodInfo createMethod(String name, String... parameterTypes) {
+        MethodInfo method = new MethodInfo();
+        method.setMethodName(name);
+        for (int i = 0; i < parameterTypes.length; i++) {
+            method.getParameters().add(new Parameter(parameterTypes[i], "arg" + i));
+        }
+        return method;
+    }
+
+    private ClassInfo createClass(String packageName, String className) {
+        ClassInfo classInfo = new ClassInfo();
+        classInfo.setPackageName(packageName);
+        classInfo.setClassName(className);
+        return classInfo;
+    }
+}
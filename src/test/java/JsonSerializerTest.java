@@ -1,3 +1,8 @@
+import Analyzer.Graph.CycleReport;
+import Analyzer.Graph.DependencyGraph;
+import Analyzer.Graph.MethodCallGraph;
+import Analyzer.Graph.Reachability;
+import Serializer.JsonEscaper;
 import Serializer.JsonSerializer;
 import SourceParser.Model.ClassInfo;
 import SourceParser.Model.MethodCall;
@@ -7,10 +12,17 @@ import SourceParser.Model.Parameter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 public class JsonSerializerTest {
 
@@ -165,4 +177,352 @@ public class JsonSerializerTest {
         assertNotNull(json);
         assertTrue(json.contains("Test\\\"Class"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("JSON 이스케이프 - 제어 문자와 이스케이프 없는 구간")
+    public void testEscapeControlChars() throws Exception {
+        StringWriter out = new StringWriter();
+        JsonEscaper.escape("a\\b\"c\n\r\t\b\f\u0001\u001fd", out);
+        assertEquals("a\\\\b\\\"c\\n\\r\\t\\b\\f\\u0001\\u001fd", out.toString());
+
+        out = new StringWriter();
+        JsonEscaper.escape("\"주문\"", out);
+        JsonEscaper.escape("Order", out);
+        JsonEscaper.escape(null, out);
+        assertEquals("\\\"주문\\\"Order", out.toString());
+    }
+
+    @Test
+    @DisplayName("JSON 직렬화 - 의존성 순환 섹션")
+    public void testSerializeCycles() {
+        ClassInfo order = new ClassInfo();
+        order.setPackageName("com.example.order");
+        order.setClassName("Order");
+        ClassInfo member = new ClassInfo();
+        member.setPackageName("com.example.member");
+        member.setClassName("Member");
+
+        DependencyGraph graph = DependencyGraph.fromAdjacency(
+                new ClassInfo[]{order, member}, new int[][]{{1}, {0}});
+        serializer.setCycleReport(CycleReport.detect(graph));
+
+        String json = serializer.serialize(List.of(order, member));
+
+        assertTrue(json.contains("""
+                  "cycles": {
+                    "classes": [
+                      ["com.example.order.Order", "com.example.member.Member"]
+                    ],
+                    "packages": [
+                      ["com.example.order", "com.example.member"]
+                    ]
+                  }
+                }"""));
+        assertFalse(new JsonSerializer().serialize(List.of(order)).contains("\"cycles\""));
+    }
+
+    @Test
+    @DisplayName("JSON 직렬화 - 전이 의존 수")
+    public void testSerializeTransitiveCounts() {
+        ClassInfo order = new ClassInfo();
+        order.setClassName("Order");
+        ClassInfo member = new ClassInfo();
+        member.setClassName("Member");
+        ClassInfo address = new ClassInfo();
+        address.setClassName("Address");
+
+        // Order → Member → Address
+        DependencyGraph graph = DependencyGraph.fromAdjacency(
+                new ClassInfo[]{order, member, address}, new int[][]{{1}, {2}, {}});
+        serializer.setReachability(Reachability.compute(graph));
+
+        String json = serializer.serialize(List.of(order, member, address));
+
+        assertTrue(json.contains("\"className\": \"Order\",\n"
+                + "      \"transitiveDependencies\": 2,\n"
+                + "      \"transitiveDependents\": 0"));
+        assertTrue(json.contains("\"className\": \"Address\",\n"
+                + "      \"transitiveDependencies\": 0,\n"
+                + "      \"transitiveDependents\": 2"));
+        assertFalse(new JsonSerializer().serialize(List.of(order)).contains("transitiveDependencies"));
+    }
+
+    @Test
+    @DisplayName("JSON 직렬화 - 메서드 호출 그래프 섹션")
+    public void testSerializeCallGraph() {
+        ClassInfo order = new ClassInfo();
+        order.setPackageName("com.example");
+        order.setClassName("Order");
+        MethodInfo total = new MethodInfo();
+        total.setMethodName("total");
+        MethodInfo price = new MethodInfo();
+        price.setMethodName("price");
+        price.getParameters().add(new Parameter("int", "quantity"));
+        order.getMethods().add(total);
+        order.getMethods().add(price);
+
+        serializer.setCallGraph(MethodCallGraph.fromAdjacency(new ClassInfo[]{order}, new int[][]{{1}, {}}));
+
+        String json = serializer.serialize(List.of(order));
+
+        assertTrue(json.contains("""
+                  "callGraph": {
+                    "methodCount": 2,
+                    "callCount": 1,
+                    "methods": [
+                      {"id": 0, "signature": "com.example.Order.total()", "calls": [1]},
+                      {"id": 1, "signature": "com.example.Order.price(int)", "calls": []}
+                    ]
+                  }
+                }"""));
+    }
+
+    @Test
+    @DisplayName("JSON 파일 스트리밍 출력 - serialize 결과와 동일")
+    public void testWriteToFileMatchesSerialize(@TempDir Path tempDir) throws Exception {
+        ClassInfo order = new ClassInfo();
+        order.setPackageName("com.example");
+        order.setClassName("Order");
+        order.setAccessModifier("public");
+        order.getImports().add("java.util.List");
+        order.getDependencies().add("Member");
+        MethodInfo total = new MethodInfo();
+        total.setMethodName("total");
+        total.setReturnType("int");
+        total.getParameters().add(new Parameter("String", "날짜 \"기준\""));
+        total.getMethodCalls().add(new MethodCall("Member", "grade", 12));
+        total.getMethodCalls().add(new MethodCall(null, "sum", 13));
+        order.getMethods().add(total);
+
+        ClassInfo member = new ClassInfo();
+        member.setPackageName("com.example");
+        member.setClassName("Member");
+
+        List<ClassInfo> classes = List.of(order, member);
+        serializer.setCallGraph(MethodCallGraph.fromAdjacency(new ClassInfo[]{order, member}, new int[][]{{}}));
+
+        Path file = tempDir.resolve("out.json");
+        serializer.writeToFile(classes, file.toString());
+        String expected = serializer.serialize(classes);
+
+        // analyzedAt은 호출 시각이므로 비교에서 제외
+        String written = Files.readString(file, StandardCharsets.UTF_8);
+        assertEquals(expected.replaceAll("\"analyzedAt\": \"[^\"]*\"", ""),
+                written.replaceAll("\"analyzedAt\": \"[^\"]*\"", ""));
+        assertTrue(written.contains("날짜 \\\"기준\\\""));
+    }
+
+    @Test
+    @DisplayName("JSON 파일 병렬 출력 - 순차 출력과 바이트 단위로 동일")
+    public void testParallelWriteMatchesSequential(@TempDir Path tempDir) throws Exception {
+        // 청크 여러 개 + 마지막 청크가 덜 찬 크기 (호출 그래프도 메서드 3000개라 여러 청크)
+        int classCount = 1000;
+        int methodsPerClass = 3;
+        List<ClassInfo> classes = new ArrayList<>();
+        int[][] dependencies = new int[classCount][];
+        int[][] calls = new int[classCount * methodsPerClass][];
+        for (int i = 0; i < classCount; i++) {
+            ClassInfo classInfo = new ClassInfo();
+            classInfo.setPackageName("com.example.p" + (i % 7));
+            classInfo.setClassName("클래스" + i);
+            classInfo.getDependencies().add("클래스" + (i + 1) % classCount);
+            for (int m = 0; m < methodsPerClass; m++) {
+                MethodInfo method = new MethodInfo();
+                method.setMethodName("run" + m);
+                method.setReturnType("void");
+                method.getParameters().add(new Parameter("String", "이름\t" + i));
+                method.getMethodCalls().add(new MethodCall("클래스" + (i + 1) % classCount, "run" + m, i));
+                classInfo.getMethods().add(method);
+                calls[i * methodsPerClass + m] = new int[]{((i + 1) % classCount) * methodsPerClass + m};
+            }
+            classes.add(classInfo);
+            dependencies[i] = new int[]{(i + 1) % classCount};
+        }
+        ClassInfo[] nodes = classes.toArray(new ClassInfo[0]);
+        DependencyGraph graph = DependencyGraph.fromAdjacency(nodes, dependencies);
+        serializer.setCycleReport(CycleReport.detect(graph));
+        serializer.setReachability(Reachability.compute(graph));
+        serializer.setCallGraph(MethodCallGraph.fromAdjacency(nodes, calls));
+
+        Path sequential = tempDir.resolve("sequential.json");
+        serializer.setThreadCount(1);
+        serializer.writeToFile(classes, sequential.toString());
+
+        Path parallel = tempDir.resolve("parallel.json");
+        serializer.setThreadCount(4);
+        serializer.writeToFile(classes, parallel.toString());
+
+        // analyzedAt은 호출 시각이므로 비교에서 제외
+        String expected = Files.readString(sequential, StandardCharsets.UTF_8)
+                .replaceAll("\"analyzedAt\": \"[^\"]*\"", "");
+        String actual = Files.readString(parallel, StandardCharsets.UTF_8)
+                .replaceAll("\"analyzedAt\": \"[^\"]*\"", "");
+        assertEquals(expected, actual);
+        assertEquals(serializer.serialize(classes).replaceAll("\"analyzedAt\": \"[^\"]*\"", ""), actual);
+        assertThrows(IllegalArgumentException.class, () -> serializer.setThreadCount(0));
+    }
+
+    @Test
+    @DisplayName("JSON 직렬화 - compact는 들여쓰기/줄바꿈만 제거")
+    public void testSerializeCompact() {
+        ClassInfo order = new ClassInfo();
+        order.setPackageName("com.example");
+        order.setClassName("Order");
+        order.getImports().add("java.util.List");
+        order.getDependencies().add("Member");
+        MethodInfo total = new MethodInfo();
+        total.setMethodName("total");
+        total.setReturnType("int");
+        total.getParameters().add(new Parameter("String", "날짜 기준"));
+        total.getMethodCalls().add(new MethodCall(null, "sum", 13));
+        order.getMethods().add(total);
+        serializer.setCycleReport(CycleReport.detect(
+                DependencyGraph.fromAdjacency(new ClassInfo[]{order}, new int[][]{{}})));
+        serializer.setCallGraph(MethodCallGraph.fromAdjacency(new ClassInfo[]{order}, new int[][]{{0}}));
+
+        String pretty = serializer.serialize(List.of(order));
+        serializer.setCompact(true);
+        String compact = serializer.serialize(List.of(order));
+
+        assertFalse(compact.contains("\n"));
+        assertTrue(compact.contains("{\"type\":\"String\",\"name\":\"날짜 기준\"}"));
+        assertEquals(stripWhitespaceOutsideStrings(pretty), compact);
+    }
+
+    @Test
+    @DisplayName("JSON 파일 gzip 출력 - 압축을 풀면 serialize 결과와 동일")
+    public void testWriteToFileGzip(@TempDir Path tempDir) throws Exception {
+        List<ClassInfo> classes = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            ClassInfo classInfo = new ClassInfo();
+            classInfo.setPackageName("com.example");
+            classInfo.setClassName("클래스" + i);
+            classes.add(classInfo);
+        }
+        // 메서드가 없는 호출 그래프 ("methods": [])
+        serializer.setCallGraph(MethodCallGraph.fromAdjacency(classes.toArray(new ClassInfo[0]), new int[0][]));
+        serializer.setThreadCount(2);
+        serializer.setGzip(true);
+
+        Path file = tempDir.resolve("out.json.gz");
+        serializer.writeToFile(classes, file.toString());
+
+        String written;
+        try (GZIPInputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            written = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertEquals(serializer.serialize(classes).replaceAll("\"analyzedAt\": \"[^\"]*\"", ""),
+                written.replaceAll("\"analyzedAt\": \"[^\"]*\"", ""));
+    }
+
+    @Test
+    @DisplayName("NDJSON 출력 - 클래스/순환마다 한 줄 + 마지막 요약 레코드")
+    public void testSerializeNdjson(@TempDir Path tempDir) throws Exception {
+        List<ClassInfo> classes = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            ClassInfo classInfo = new ClassInfo();
+            classInfo.setPackageName("com.example");
+            classInfo.setClassName("Class" + i);
+            classInfo.getDependencies().add("Class" + (i + 1) % 150);
+            classes.add(classInfo);
+        }
+        int[][] dependencies = new int[150][];
+        for (int i = 0; i < 150; i++) {
+            dependencies[i] = new int[]{(i + 1) % 150};
+        }
+        serializer.setCycleReport(CycleReport.detect(
+                DependencyGraph.fromAdjacency(classes.toArray(new ClassInfo[0]), dependencies)));
+
+        serializer.setCompact(true);
+        String compact = serializer.serialize(classes);
+        serializer.setCompact(false);
+        serializer.setFormat(JsonSerializer.Format.NDJSON);
+        String ndjson = serializer.serialize(classes);
+
+        String[] lines = ndjson.split("\n", -1);
+        assertEquals(153, lines.length);  // 클래스 150줄 + 순환 1줄 + 요약 1줄 + 마지막 줄바꿈 뒤 빈 문자열
+        assertEquals("", lines[152]);
+        for (int i = 0; i < 150; i++) {
+            String prefix = "{\"record\":\"class\",";
+            assertTrue(lines[i].startsWith(prefix));
+            // 레코드 구분 필드를 빼면 JSON 문서의 클래스 객체와 동일
+            assertTrue(compact.contains("{" + lines[i].substring(prefix.length())));
+        }
+        assertTrue(lines[150].startsWith("{\"record\":\"cycle\",\"kind\":\"class\",\"members\":[\"com.example.Class"));
+        assertTrue(lines[151].startsWith("{\"record\":\"summary\",\"projectName\":"));
+        assertTrue(lines[151].endsWith("\"totalClasses\":150,\"classCycles\":1,\"packageCycles\":0}"));
+
+        // 파일 출력(청크 병렬)도 같은 내용
+        Path file = tempDir.resolve("out.ndjson");
+        serializer.setThreadCount(3);
+        serializer.writeToFile(classes, file.toString());
+        assertEquals(ndjson.replaceAll("\"analyzedAt\":\"[^\"]*\"", ""),
+                Files.readString(file, StandardCharsets.UTF_8).replaceAll("\"analyzedAt\":\"[^\"]*\"", ""));
+    }
+
+    @Test
+    @DisplayName("NDJSON 출력 - 메서드마다 한 줄, 어느 줄도 메서드 수에 비례해 길어지지 않음")
+    public void testNdjsonLinesDoNotGrowWithMethodCount() {
+        serializer.setFormat(JsonSerializer.Format.NDJSON);
+        String small = serializeWithCallGraph(100);
+        String large = serializeWithCallGraph(3000);
+
+        String[] lines = large.split("\n");
+        long methodLines = Arrays.stream(lines).filter(line -> line.startsWith("{\"record\":\"method\",")).count();
+        assertEquals(3000 * 2, methodLines);
+        assertTrue(lines[lines.length - 1].startsWith("{\"record\":\"summary\","));
+        assertTrue(lines[lines.length - 1].endsWith("\"methodCount\":6000,\"callCount\":6000}"));
+        assertTrue(large.contains("{\"record\":\"method\",\"id\":5999,"));
+
+        // 메서드 30배에서 늘어나는 것은 줄마다 이름/ID 숫자 몇 개의 자릿수뿐 (이전 요약 줄은 메서드마다 수십 바이트씩 증가)
+        assertTrue(maxLineLength(large) <= maxLineLength(small) + 16,
+                maxLineLength(small) + " -> " + maxLineLength(large));
+    }
+
+    // 클래스마다 메서드 2개, 메서드마다 다음 클래스의 같은 메서드를 호출
+    private String serializeWithCallGraph(int classCount) {
+        List<ClassInfo> classes = new ArrayList<>();
+        int[][] calls = new int[classCount * 2][];
+        for (int i = 0; i < classCount; i++) {
+            ClassInfo classInfo = new ClassInfo();
+            classInfo.setPackageName("com.example");
+            classInfo.setClassName("Class" + i);
+            for (int m = 0; m < 2; m++) {
+                MethodInfo method = new MethodInfo();
+                method.setMethodName("run" + m);
+                method.setReturnType("void");
+                method.getMethodCalls().add(new MethodCall("Class" + (i + 1) % classCount, "run" + m, i));
+                classInfo.getMethods().add(method);
+                calls[i * 2 + m] = new int[]{((i + 1) % classCount) * 2 + m};
+            }
+            classes.add(classInfo);
+        }
+        serializer.setCallGraph(MethodCallGraph.fromAdjacency(classes.toArray(new ClassInfo[0]), calls));
+        return serializer.serialize(classes);
+    }
+
+    private static int maxLineLength(String text) {
+        return Arrays.stream(text.split("\n")).mapToInt(String::length).max().orElse(0);
+    }
+
+    // 문자열 리터럴 밖의 공백/줄바꿈 제거
+    private static String stripWhitespaceOutsideStrings(String json) {
+        StringBuilder result = new StringBuilder();
+        boolean inString = false;
+        for (int i = 0; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (inString) {
+                result.append(c);
+                if (c == '\\') {
+                    result.append(json.charAt(++i));
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (!Character.isWhitespace(c)) {
+                result.append(c);
+                inString = c == '"';
+            }
+        }
+        return result.toString();
+    }
+}
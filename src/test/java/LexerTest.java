@@ -123,4 +123,60 @@ public class LexerTest {
         lastToken = lexer.getLastToken();
         assertEquals(TokenType.STATIC, lastToken.getType());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("렉서 현재 토큰 접근자 검증")
+    public void testLexerCurrentAccessors() {
+        String code = "public\nvoid test";
+        Lexer lexer = new Lexer(code);
+
+        lexer.moveForward();
+        assertEquals(TokenType.VOID, lexer.getCurrentType());
+        assertEquals("void", lexer.getCurrentValue());
+        assertEquals(2, lexer.getCurrentLine());
+
+        lexer.moveForward();
+        assertTrue(lexer.currentValueEquals("test"));
+        assertTrue(lexer.checkAny(TokenType.PUBLIC, TokenType.UNKNOWN));
+
+        int saved = lexer.getPosition();
+        lexer.moveForward();
+        assertTrue(lexer.isAtEnd());
+        assertEquals(TokenType.EOF, lexer.getCurrentType());
+
+        lexer.setPosition(saved);
+        assertEquals("test", lexer.getCurrentToken().getValue());
+    }
+
+    @Test
+    @DisplayName("렉서 짝 괄호 건너뛰기 검증")
+    public void testLexerSkipBalanced() {
+        String code = "{ a(b(c), [d]) { e(); } } f";
+        Lexer lexer = new Lexer(code);
+
+        assertEquals(18, lexer.getMatchingPosition());
+        lexer.skipBalanced();
+        assertEquals("f", lexer.getCurrentValue());
+
+        lexer.setPosition(2);
+        assertEquals(TokenType.LPAREN, lexer.getCurrentType());
+        lexer.skipBalanced();
+        assertEquals(TokenType.LBRACE, lexer.getCurrentType());
+        assertEquals(TokenType.UNKNOWN, lexer.peekType(1));
+        assertTrue(lexer.peekValueEquals(1, "e"));
+    }
+
+    @Test
+    @DisplayName("렉서 닫히지 않은 괄호는 끝까지 건너뜀")
+    public void testLexerSkipUnbalanced() {
+        String code = "{ a ( b }";
+        Lexer lexer = new Lexer(code);
+
+        lexer.moveForward();
+        lexer.moveForward();
+        lexer.skipBalanced();
+
+        assertTrue(lexer.isAtEnd());
+        assertEquals(TokenType.EOF, lexer.peekType(5));
+    }
+}
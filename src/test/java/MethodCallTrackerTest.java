@@ -126,4 +126,51 @@ public class MethodCallTrackerTest {
         assertNotNull(calls);
         assertEquals(0, calls.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("메서드 호출 추적 - 주석과 문자열 안의 호출은 무시")
+    public void testIgnoreCallsInCommentsAndStrings() {
+        String code = """
+            {
+                // userService.delete();
+                /* repository.drop(); } */
+                log.info("cache.clear() {");
+                helper.run();
+            }
+            """;
+
+        Lexer lexer = new Lexer(code);
+        MethodCallTracker tracker = new MethodCallTracker(lexer);
+
+        List<MethodCall> calls = tracker.trackMethodCalls();
+
+        assertEquals(2, calls.size());
+        assertEquals("log", calls.get(0).getTargetClass());
+        assertEquals("helper", calls.get(1).getTargetClass());
+        assertEquals(5, calls.get(1).getLineNumber());
+    }
+
+    @Test
+    @DisplayName("메서드 호출 추적 - 인자 수")
+    public void testTrackArgumentCount() {
+        String code = """
+            {
+                repository.findAll();
+                mapper.convert(order, toDto(order, locale), new HashMap<String, List<Integer>>(), () -> { run(1, 2); });
+                validate(a < b, c > d);
+                log.info(String.format("%s, %s", x, y), new int[]{1, 2});
+            }
+            """;
+
+        Lexer lexer = new Lexer(code);
+        MethodCallTracker tracker = new MethodCallTracker(lexer);
+
+        List<MethodCall> calls = tracker.trackMethodCalls();
+
+        assertEquals(4, calls.size());
+        assertEquals(0, calls.get(0).getArgumentCount());
+        assertEquals(4, calls.get(1).getArgumentCount());
+        assertEquals(2, calls.get(2).getArgumentCount());
+        assertEquals(2, calls.get(3).getArgumentCount());
+    }
+}
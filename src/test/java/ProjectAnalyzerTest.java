@@ -0,0 +1,173 @@
+import Analyzer.AnalysisCache;
+import Analyzer.AnalysisPipeline;
+import Analyzer.FileAnalyzer;
+import Analyzer.ParseResult;
+import Analyzer.ProjectAnalyzer;
+import SourceParser.Model.ClassInfo;
+import SourceParser.Parser.Parser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class ProjectAnalyzerTest {
+
+    @TempDir
+    Path projectDir;
+
+    private void writeSources(int count) throws IOException {
+        Path packageDir = Files.createDirectories(projectDir.resolve("com/example"));
+        for (int i = 0; i < count; i++) {
+            Files.writeString(packageDir.resolve("Service" + i + ".java"), """
+                    package com.example;
+
+                    public class Service%d {
+                        public void run() {
+                            repository.save();
+                        }
+                    }
+                    """.formatted(i));
+        }
+        Files.writeString(packageDir.resolve("Broken.java"), "public void broken() {}");
+    }
+
+    private List<String> classNames(List<ClassInfo> classes) {
+        return classes.stream().map(ClassInfo::getClassName).toList();
+    }
+
+    @Test
+    @DisplayName("프로젝트 분석 - 병렬 파싱 결과가 순차 파싱과 같은 순서")
+    public void testParallelMatchesSequentialOrder() throws IOException {
+        writeSources(20);
+
+        ProjectAnalyzer sequential = new ProjectAnalyzer(false, 1);
+        ProjectAnalyzer parallel = new ProjectAnalyzer(false, 4);
+
+        List<ClassInfo> expected = sequential.analyzeProject(projectDir.toString());
+        List<ClassInfo> actual = parallel.analyzeProject(projectDir.toString());
+
+        assertEquals(20, actual.size());
+        assertEquals(classNames(expected), classNames(actual));
+        assertEquals(
+                sequential.getParseResults().stream().map(ParseResult::getFilePath).toList(),
+                parallel.getParseResults().stream().map(ParseResult::getFilePath).toList()
+        );
+    }
+
+    @Test
+    @DisplayName("프로젝트 분석 - 병렬 파싱 성공/실패 집계")
+    public void testParallelCountsFailures() throws IOException {
+        writeSources(5);
+
+        ProjectAnalyzer analyzer = new ProjectAnalyzer(false, 3);
+        analyzer.analyzeProject(projectDir.toString());
+
+        assertEquals(5, analyzer.getSuccessCount());
+        assertEquals(1, analyzer.getFailureCount());
+        assertEquals("Broken.java", analyzer.getFailures().get(0).getFileName());
+    }
+
+    @Test
+    @DisplayName("파이프라인 - 읽기 예산보다 큰 파일도 순회 순서대로 처리")
+    public void testPipelineWithSmallByteBudget() throws IOException {
+        writeSources(10);
+
+        AnalysisPipeline pipeline = new AnalysisPipeline(new FileAnalyzer(), 2, 16);
+        List<AnalysisPipeline.Outcome> outcomes = pipeline.run(projectDir.toString(),
+                (file, content) -> {
+                    ClassInfo classInfo = new ClassInfo();
+                    classInfo.setClassName(file.getName());
+                    return classInfo;
+                }, null);
+
+        List<String> expected = new FileAnalyzer().getAllJavaFiles(projectDir.toString()).stream()
+                .map(file -> file.getName())
+                .toList();
+
+        assertEquals(11, outcomes.size());
+        assertEquals(expected, outcomes.stream().map(o -> o.getClassInfo().getClassName()).toList());
+    }
+
+    @Test
+    @DisplayName("캐시 - 변경되지 않은 파일은 다시 파싱하지 않음")
+    public void testCacheSkipsUnchangedFiles() throws IOException {
+        writeSources(3);
+        String root = projectDir.toString();
+
+        AnalysisCache firstCache = AnalysisCache.load(root);
+        ProjectAnalyzer first = new ProjectAnalyzer(false, 2);
+        first.setCache(firstCache);
+        first.analyzeProject(root);
+        firstCache.save();
+
+        assertEquals(0, firstCache.getHitCount());
+        assertTrue(Files.exists(projectDir.resolve(AnalysisCache.CACHE_DIRECTORY)));
+
+        Path changed = projectDir.resolve("com/example/Service1.java");
+        Files.writeString(changed, "package com.example;\n\npublic class Renamed {}\n");
+
+        AnalysisCache secondCache = AnalysisCache.load(root);
+        ProjectAnalyzer second = new ProjectAnalyzer(false, 2);
+        second.setCache(secondCache);
+        List<ClassInfo> classes = second.analyzeProject(root);
+
+        assertEquals(2, secondCache.getHitCount());
+        assertTrue(classNames(classes).contains("Renamed"));
+        assertFalse(classNames(classes).contains("Service1"));
+        assertEquals(3, second.getSuccessCount());
+        assertEquals(1, second.getFailureCount());
+    }
+
+    @Test
+    @DisplayName("캐시 - 파서 버전이 다르면 저장된 결과를 버림")
+    public void testCacheDiscardedOnParserVersionChange() throws Exception {
+        writeSources(3);
+        String root = projectDir.toString();
+
+        AnalysisCache firstCache = AnalysisCache.load(root);
+        ProjectAnalyzer first = new ProjectAnalyzer(false, 2);
+        first.setCache(firstCache);
+        first.analyzeProject(root);
+        firstCache.save();
+
+        // 헤더의 파서 버전만 바꿔서 다시 기록 (이전 파서가 만든 캐시)
+        Path cacheFile = projectDir.resolve(AnalysisCache.CACHE_DIRECTORY).resolve("parse-cache.bin");
+        ByteArrayOutputStream rewritten = new ByteArrayOutputStream();
+        try (ObjectInputStream in = new ObjectInputStream(Files.newInputStream(cacheFile));
+             ObjectOutputStream out = new ObjectOutputStream(rewritten)) {
+            out.writeInt(in.readInt());
+            assertEquals(Parser.VERSION, in.readInt());
+            out.writeInt(Parser.VERSION - 1);
+            int count = in.readInt();
+            out.writeInt(count);
+            for (int i = 0; i < count; i++) {
+                out.writeUTF(in.readUTF());
+                out.writeObject(in.readObject());
+            }
+        }
+        Files.write(cacheFile, rewritten.toByteArray());
+
+        AnalysisCache secondCache = AnalysisCache.load(root);
+        ProjectAnalyzer second = new ProjectAnalyzer(false, 2);
+        second.setCache(secondCache);
+        second.analyzeProject(root);
+
+        assertEquals(0, secondCache.getHitCount());
+        assertEquals(first.getSuccessCount(), second.getSuccessCount());
+    }
+
+    @Test
+    @DisplayName("프로젝트 분석 - 잘못된 스레드 수")
+    public void testInvalidThreadCount() {
+        assertThrows(IllegalArgumentException.class, () -> new ProjectAnalyzer(false, 0));
+    }
+}
@@ -1,3 +1,5 @@
+import SourceParser.Tokenizer.KeywordMap;
+import SourceParser.Tokenizer.TokenBuffer;
 import SourceParser.Tokenizer.Tokenizer;
 import SourceParser.Tokenizer.Token;
 import SourceParser.Tokenizer.TokenType;
@@ -82,5 +84,139 @@ public class TokenizerTest {
         assertEquals(TokenType.EOF, tokens.get(12).getType());
     }
 
+    @Test
+    @DisplayName("토크나이저 토큰 값은 소스 구간을 가리킴")
+    public void testTokenValueIsSourceSlice() {
+        String code = "public void run(String... args)";
+        Tokenizer tokenizer = new Tokenizer(code);
+
+        List<Token> tokens = tokenizer.tokenize();
+
+        Token name = tokens.get(2);
+        assertEquals(12, name.getStart());
+        assertEquals(3, name.getLength());
+        assertTrue(name.valueEquals("run"));
+        assertFalse(name.valueEquals("runs"));
+        assertEquals("run", name.getText().toString());
+        assertEquals("run", name.getValue());
+
+        Token varargs = tokens.get(5);
+        assertEquals(TokenType.VARARGS, varargs.getType());
+        assertEquals("...", varargs.getValue());
+        assertEquals(23, varargs.getColumn());
+    }
+
+    @Test
+    @DisplayName("키워드 판별 - 소스 구간 기준")
+    public void testKeywordLookupByRange() {
+        String source = "xxpublicxx";
+
+        assertEquals(TokenType.PUBLIC, KeywordMap.getType(source, 2, 6));
+        assertEquals(TokenType.UNKNOWN, KeywordMap.getType(source, 2, 5));
+        assertEquals(TokenType.UNKNOWN, KeywordMap.getType(source, 0, 8));
+    }
 
+    @Test
+    @DisplayName("키워드 판별 - 길이와 첫 글자가 같은 키워드 구분")
+    public void testKeywordLookupSharedPrefix() {
+        assertEquals(TokenType.FINAL, KeywordMap.getType("final"));
+        assertEquals(TokenType.FLOAT, KeywordMap.getType("float"));
+        assertEquals(TokenType.CLASS, KeywordMap.getType("class"));
+        assertEquals(TokenType.CATCH, KeywordMap.getType("catch"));
+        assertEquals(TokenType.PRIVATE, KeywordMap.getType("private"));
+        assertEquals(TokenType.PACKAGE, KeywordMap.getType("package"));
+        assertEquals(TokenType.ENUM, KeywordMap.getType("enum"));
+        assertEquals(TokenType.ELSE, KeywordMap.getType("else"));
+        assertEquals(TokenType.STRING, KeywordMap.getType("String"));
+
+        assertEquals(TokenType.UNKNOWN, KeywordMap.getType("string"));
+        assertEquals(TokenType.UNKNOWN, KeywordMap.getType("fInal"));
+        assertEquals(TokenType.UNKNOWN, KeywordMap.getType("i"));
+        assertFalse(KeywordMap.isKeyword("implement"));
+        assertTrue(KeywordMap.isKeyword("implements"));
+    }
+
+    @Test
+    @DisplayName("토큰 버퍼 - 줄/컬럼을 줄 시작 테이블에서 계산")
+    public void testTokenBufferLineAndColumn() {
+        String code = "class A {\n  void run() {\n\n    go();\n  }\n}";
+        TokenBuffer buffer = new Tokenizer(code).tokenizeToBuffer();
+
+        assertEquals(15, buffer.size());
+        assertEquals(TokenType.CLASS, buffer.getType(0));
+        assertEquals(1, buffer.getLine(0));
+        assertEquals(1, buffer.getColumn(0));
+
+        assertEquals("run", buffer.getValue(4));
+        assertEquals(2, buffer.getLine(4));
+        assertEquals(8, buffer.getColumn(4));
+
+        assertTrue(buffer.valueEquals(8, "go"));
+        assertEquals(4, buffer.getLine(8));
+        assertEquals(5, buffer.getColumn(8));
+
+        assertEquals(TokenType.EOF, buffer.getType(buffer.size() - 1));
+        assertEquals(6, buffer.getLine(buffer.size() - 1));
+    }
+
+    @Test
+    @DisplayName("토크나이저 본문 생략 모드 검증")
+    public void testTokenizeSkippingBodies() {
+        String code = "class A {\n  int[] a = {1};\n  void run() {\n    go(); { x(); }\n  }\n  void b() {}\n}";
+        TokenBuffer buffer = new Tokenizer(code, true).tokenizeToBuffer();
+
+        // class A { int [ ] a = { 1 } ; void run ( ) { } void b ( ) { } } EOF
+        assertEquals(26, buffer.size());
+        assertEquals(TokenType.LBRACE, buffer.getType(16));
+        assertEquals(17, buffer.getMatch(16));
+        assertEquals(5, buffer.getLine(17));
+        assertEquals(6, buffer.getLine(19));
+    }
+
+    @Test
+    @DisplayName("토크나이저 주석은 토큰을 만들지 않음")
+    public void testTokenizeComments() {
+        String code = "/** 사용자 서비스 { ( */\npublic // 한글 주석 (\nclass /* a\n b */ A";
+        TokenBuffer buffer = new Tokenizer(code).tokenizeToBuffer();
+
+        assertEquals(4, buffer.size());
+        assertEquals(TokenType.PUBLIC, buffer.getType(0));
+        assertEquals(2, buffer.getLine(0));
+        assertEquals(TokenType.CLASS, buffer.getType(1));
+        assertEquals(3, buffer.getLine(1));
+        assertEquals("A", buffer.getValue(2));
+        assertEquals(4, buffer.getLine(2));
+    }
+
+    @Test
+    @DisplayName("토크나이저 문자열/문자/숫자 리터럴은 하나의 토큰")
+    public void testTokenizeLiterals() {
+        String code = "f(\"a(b\\\"c\", '}', '\\'', 1_000L, 0x1F, 3.14e-5f, .5);";
+        List<Token> tokens = new Tokenizer(code).tokenize();
+
+        assertEquals(TokenType.STRING_LITERAL, tokens.get(2).getType());
+        assertEquals("\"a(b\\\"c\"", tokens.get(2).getValue());
+        assertEquals(TokenType.CHAR_LITERAL, tokens.get(4).getType());
+        assertEquals("'}'", tokens.get(4).getValue());
+        assertEquals("'\\''", tokens.get(6).getValue());
+        assertEquals(TokenType.NUMBER_LITERAL, tokens.get(8).getType());
+        assertEquals("1_000L", tokens.get(8).getValue());
+        assertEquals("0x1F", tokens.get(10).getValue());
+        assertEquals("3.14e-5f", tokens.get(12).getValue());
+        assertEquals(".5", tokens.get(14).getValue());
+        assertEquals(TokenType.RPAREN, tokens.get(15).getType());
+        assertEquals(18, tokens.size());
+    }
+
+    @Test
+    @DisplayName("토크나이저 텍스트 블록 검증")
+    public void testTokenizeTextBlock() {
+        String code = "s = \"\"\"\n  { \\\"\"\" }\n  \"\"\";\nx";
+        TokenBuffer buffer = new Tokenizer(code).tokenizeToBuffer();
+
+        assertEquals(TokenType.STRING_LITERAL, buffer.getType(2));
+        assertEquals(TokenType.SEMICOLON, buffer.getType(3));
+        assertEquals("x", buffer.getValue(4));
+        assertEquals(4, buffer.getLine(4));
+    }
 }